@@ -0,0 +1,483 @@
+package edu.wisc.ssec.cimss.common.dataplugin.probsevere;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+import org.hibernate.annotations.Index;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.vividsolutions.jts.geom.Envelope;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.Point;
+import com.vividsolutions.jts.io.WKTReader;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Feature Record Definition
+ *
+ * Companion database row for each shape of a ProbSevere record, holding the
+ * object ID, bounding box, centroid and model probabilities so object questions can be
+ * answered with indexed queries instead of reading the data store. Rows are
+ * removed along with their parent record.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Added centroid for object tracks.
+ * Oct 19, 2026             cimss       Added source of the parent record.
+ * Oct 19, 2026             cimss       Added the CWA holding the feature.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+@Entity
+@SequenceGenerator(initialValue = 1, name = ProbSevereFeatureRecord.ID_GEN, sequenceName = "probsevere_featureseq")
+@Table(name = ProbSevereFeatureRecord.TABLE_NAME)
+@org.hibernate.annotations.Table(appliesTo = ProbSevereFeatureRecord.TABLE_NAME, indexes = {
+        @Index(name = "probsevere_feature_refTimeIndex", columnNames = { "refTime" }),
+        @Index(name = "probsevere_feature_objectIdIndex", columnNames = { "source", "objectId", "refTime" }),
+        @Index(name = "probsevere_feature_cwaIndex", columnNames = { "cwa", "refTime" }),
+        @Index(name = "probsevere_feature_parentIndex", columnNames = { "parentId" }) })
+public class ProbSevereFeatureRecord implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String TABLE_NAME = "probsevere_feature";
+
+    public static final String ID_GEN = "probsevereFeatureIdGen";
+
+    // Feature property holding the IDs of the CWAs a shape overlaps
+    public static final String CWA_PROPERTY = "CWA";
+
+    private static final transient IUFStatusHandler statusHandler = UFStatus.getHandler(ProbSevereFeatureRecord.class);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_GEN)
+    private int id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "parentId", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private ProbSevereRecord parent;
+
+    @Column(length = 32, nullable = false)
+    private String source;
+
+    @Column(length = 32)
+    private String objectId;
+
+    @Column(length = 8)
+    private String cwa;
+
+    @Column(nullable = false)
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date refTime;
+
+    @Column
+    private float minLon;
+
+    @Column
+    private float minLat;
+
+    @Column
+    private float maxLon;
+
+    @Column
+    private float maxLat;
+
+    @Column
+    private float centroidLon;
+
+    @Column
+    private float centroidLat;
+
+    @Column
+    private int severeProb;
+
+    @Column
+    private int torProb;
+
+    @Column
+    private int hailProb;
+
+    @Column
+    private int windProb;
+
+    /**
+     * Required empty constructor.
+     */
+    public ProbSevereFeatureRecord() {
+    }
+
+    /**
+     * Creates a feature row for each shape of a complete, persisted record
+     *
+     * @param complete ProbSevere record with a database id
+     * @return feature rows in stored order
+     */
+    public static List<ProbSevereFeatureRecord> createFeatureRecords(ProbSevereRecord record) {
+        String[] polygons = record.getPolygons();
+        List<ProbSevereFeatureRecord> features = new ArrayList<ProbSevereFeatureRecord>(polygons.length);
+        int[] severeProbs = record.getModelProbabilities("probsevere");
+        int[] torProbs = record.getModelProbabilities("probtor");
+        int[] hailProbs = record.getModelProbabilities("probhail");
+        int[] windProbs = record.getModelProbabilities("probwind");
+        Date refTime = record.getDataTime().getRefTime();
+        WKTReader reader = new WKTReader();
+        for (int i = 0; i < polygons.length; i++) {
+            try {
+                Geometry geom = reader.read(polygons[i]);
+                Envelope env = geom.getEnvelopeInternal();
+                Point centroid = geom.getCentroid();
+                Map<String, String> properties = ProbSevereRecord.createPropsMap(record.getPropertiesKeys()[i],
+                        record.getProperties()[i]);
+                ProbSevereFeatureRecord feature = new ProbSevereFeatureRecord();
+                feature.setParent(record);
+                feature.setSource(record.getSource());
+                feature.setObjectId(properties.get("ID"));
+                feature.setCwa(getPrimaryRegion(properties.get(CWA_PROPERTY)));
+                feature.setRefTime(refTime);
+                feature.setMinLon((float) env.getMinX());
+                feature.setMinLat((float) env.getMinY());
+                feature.setMaxLon((float) env.getMaxX());
+                feature.setMaxLat((float) env.getMaxY());
+                feature.setCentroidLon((float) centroid.getX());
+                feature.setCentroidLat((float) centroid.getY());
+                feature.setSevereProb(severeProbs[i]);
+                feature.setTorProb(torProbs[i]);
+                feature.setHailProb(hailProbs[i]);
+                feature.setWindProb(windProbs[i]);
+                features.add(feature);
+            } catch (Exception e) {
+                statusHandler.error("Well Known Text reader could not read selected text: " + polygons[i], e);
+            }
+        }
+        return features;
+    }
+
+    /**
+     * Picks the first of the comma separated region IDs of a feature, the
+     * region holding its centroid when there is one
+     *
+     * @param region IDs property value
+     * @return primary region ID, null if the feature was not tagged
+     */
+    private static String getPrimaryRegion(String regionIds) {
+        if (regionIds == null || regionIds.isEmpty()) {
+            return null;
+        }
+        int split = regionIds.indexOf(',');
+        return split < 0 ? regionIds : regionIds.substring(0, split);
+    }
+
+    /**
+     * Retrieve database id of this row
+     *
+     * @return id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Set database id of this row
+     *
+     * @param id
+     */
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Retrieve record holding this feature
+     *
+     * @return parent record
+     */
+    public ProbSevereRecord getParent() {
+        return parent;
+    }
+
+    /**
+     * Set record holding this feature
+     *
+     * @param parent record
+     */
+    public void setParent(ProbSevereRecord parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Retrieve source of the parent record
+     *
+     * @return source
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Set source of the parent record
+     *
+     * @param source
+     */
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Retrieve object ID of this feature
+     *
+     * @return object ID
+     */
+    public String getObjectId() {
+        return objectId;
+    }
+
+    /**
+     * Set object ID of this feature
+     *
+     * @param object ID
+     */
+    public void setObjectId(String objectId) {
+        this.objectId = objectId;
+    }
+
+    /**
+     * Retrieve CWA holding this feature
+     *
+     * @return CWA ID, null if the feature was not tagged
+     */
+    public String getCwa() {
+        return cwa;
+    }
+
+    /**
+     * Set CWA holding this feature
+     *
+     * @param CWA ID
+     */
+    public void setCwa(String cwa) {
+        this.cwa = cwa;
+    }
+
+    /**
+     * Retrieve valid time of this feature
+     *
+     * @return valid time
+     */
+    public Date getRefTime() {
+        return refTime;
+    }
+
+    /**
+     * Set valid time of this feature
+     *
+     * @param valid time
+     */
+    public void setRefTime(Date refTime) {
+        this.refTime = refTime;
+    }
+
+    /**
+     * Retrieve minimum longitude of this feature
+     *
+     * @return minimum longitude
+     */
+    public float getMinLon() {
+        return minLon;
+    }
+
+    /**
+     * Set minimum longitude of this feature
+     *
+     * @param minimum longitude
+     */
+    public void setMinLon(float minLon) {
+        this.minLon = minLon;
+    }
+
+    /**
+     * Retrieve minimum latitude of this feature
+     *
+     * @return minimum latitude
+     */
+    public float getMinLat() {
+        return minLat;
+    }
+
+    /**
+     * Set minimum latitude of this feature
+     *
+     * @param minimum latitude
+     */
+    public void setMinLat(float minLat) {
+        this.minLat = minLat;
+    }
+
+    /**
+     * Retrieve maximum longitude of this feature
+     *
+     * @return maximum longitude
+     */
+    public float getMaxLon() {
+        return maxLon;
+    }
+
+    /**
+     * Set maximum longitude of this feature
+     *
+     * @param maximum longitude
+     */
+    public void setMaxLon(float maxLon) {
+        this.maxLon = maxLon;
+    }
+
+    /**
+     * Retrieve maximum latitude of this feature
+     *
+     * @return maximum latitude
+     */
+    public float getMaxLat() {
+        return maxLat;
+    }
+
+    /**
+     * Set maximum latitude of this feature
+     *
+     * @param maximum latitude
+     */
+    public void setMaxLat(float maxLat) {
+        this.maxLat = maxLat;
+    }
+
+    /**
+     * Retrieve centroid longitude of this feature
+     *
+     * @return centroid longitude
+     */
+    public float getCentroidLon() {
+        return centroidLon;
+    }
+
+    /**
+     * Set centroid longitude of this feature
+     *
+     * @param centroid longitude
+     */
+    public void setCentroidLon(float centroidLon) {
+        this.centroidLon = centroidLon;
+    }
+
+    /**
+     * Retrieve centroid latitude of this feature
+     *
+     * @return centroid latitude
+     */
+    public float getCentroidLat() {
+        return centroidLat;
+    }
+
+    /**
+     * Set centroid latitude of this feature
+     *
+     * @param centroid latitude
+     */
+    public void setCentroidLat(float centroidLat) {
+        this.centroidLat = centroidLat;
+    }
+
+    /**
+     * Retrieve ProbSevere probability of this feature
+     *
+     * @return probability
+     */
+    public int getSevereProb() {
+        return severeProb;
+    }
+
+    /**
+     * Set ProbSevere probability of this feature
+     *
+     * @param probability
+     */
+    public void setSevereProb(int severeProb) {
+        this.severeProb = severeProb;
+    }
+
+    /**
+     * Retrieve ProbTor probability of this feature
+     *
+     * @return probability
+     */
+    public int getTorProb() {
+        return torProb;
+    }
+
+    /**
+     * Set ProbTor probability of this feature
+     *
+     * @param probability
+     */
+    public void setTorProb(int torProb) {
+        this.torProb = torProb;
+    }
+
+    /**
+     * Retrieve ProbHail probability of this feature
+     *
+     * @return probability
+     */
+    public int getHailProb() {
+        return hailProb;
+    }
+
+    /**
+     * Set ProbHail probability of this feature
+     *
+     * @param probability
+     */
+    public void setHailProb(int hailProb) {
+        this.hailProb = hailProb;
+    }
+
+    /**
+     * Retrieve ProbWind probability of this feature
+     *
+     * @return probability
+     */
+    public int getWindProb() {
+        return windProb;
+    }
+
+    /**
+     * Set ProbWind probability of this feature
+     *
+     * @param probability
+     */
+    public void setWindProb(int windProb) {
+        this.windProb = windProb;
+    }
+
+}
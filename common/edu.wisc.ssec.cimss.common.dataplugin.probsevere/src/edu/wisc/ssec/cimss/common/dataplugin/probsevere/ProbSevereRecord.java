@@ -1,10 +1,16 @@
 package edu.wisc.ssec.cimss.common.dataplugin.probsevere;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
@@ -15,21 +21,31 @@ import javax.persistence.UniqueConstraint;
 import org.hibernate.annotations.Index;
 
 import com.raytheon.uf.common.dataplugin.PluginDataObject;
+import com.raytheon.uf.common.dataplugin.annotations.DataURI;
 import com.raytheon.uf.common.dataplugin.persist.IPersistable;
 import com.raytheon.uf.common.dataplugin.persist.PersistablePluginDataObject;
 import com.raytheon.uf.common.datastorage.IDataStore;
+import com.raytheon.uf.common.datastorage.Request;
 import com.raytheon.uf.common.datastorage.records.IDataRecord;
 import com.raytheon.uf.common.datastorage.records.StringDataRecord;
 import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
 import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.common.time.DataTime;
+import com.vividsolutions.jts.geom.Envelope;
 import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.GeometryFactory;
+import com.vividsolutions.jts.geom.LinearRing;
 import com.vividsolutions.jts.io.WKTReader;
 
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereFeatureBlock;
 import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereGeometry;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereLod;
 import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereModelType;
 import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereObject;
 import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereShape;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereTiling;
 
 /**
  * NOAA/CIMSS ProbSevere Model Data Record Definition
@@ -50,6 +66,31 @@ import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereShape;
  *              DR 21470                use within the visualization resource to make
  *                                      sure we have a complete record to work with 
  *                                      prior to drawing shapes.
+ * Oct 19, 2026             cimss       Added optional feature block so a complete
+ *                                      record can be carried in a notification.
+ *                                      Added model type lookup helpers.
+ * Oct 19, 2026             cimss       Read only the tiles intersecting an
+ *                                      extent from records stored in tiles.
+ * Oct 19, 2026             cimss       Added source to the data URI so feeds
+ *                                      valid at the same time do not collide.
+ * Oct 19, 2026             cimss       Added derived swath sources.
+ * Oct 19, 2026             cimss       Added the threshold crossing event
+ *                                      topic.
+ * Oct 19, 2026             cimss       Parse shape geometries once per record.
+ * Oct 19, 2026             cimss       Read simplified polygons stored next to
+ *                                      the groups the record was read from.
+ * Oct 19, 2026             cimss       Unpack the feature block once, safely
+ *                                      across observers sharing the record.
+ * Oct 19, 2026             cimss       Added model type check.
+ * Oct 19, 2026             cimss       Source follows the data time in the
+ *                                      data URI.
+ * Oct 19, 2026             cimss       Send the storage groups with the record
+ *                                      so copies read their simplified polygons.
+ * Oct 19, 2026             cimss       Added data URI creation from its fields.
+ * Oct 19, 2026             cimss       Model types are returned as an
+ *                                      unmodifiable list.
+ * Oct 19, 2026             cimss       Derived records have no levels of
+ *                                      detail to read.
  * </pre
  *
  * @author Lee Cronce
@@ -58,7 +99,8 @@ import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereShape;
  */
 @Entity
 @SequenceGenerator(initialValue = 1, name = PluginDataObject.ID_GEN, sequenceName = "probsevereseq")
-@Table(name = ProbSevereRecord.PLUGIN_NAME, uniqueConstraints = { @UniqueConstraint(columnNames = { "refTime" }) })
+@Table(name = ProbSevereRecord.PLUGIN_NAME, uniqueConstraints = { @UniqueConstraint(name = "uk_probsevere_datauri_fields", columnNames = {
+        "refTime", "source" }) })
 /*
  * Both refTime and forecastTime are included in the refTimeIndex since
  * forecastTime is unlikely to be used.
@@ -74,13 +116,39 @@ IPersistable {
 
     public static final String PLUGIN_NAME = "probsevere";
 
+    // Model types carried by each shape
+    private static final List<String> MODEL_TYPES = Collections.unmodifiableList(Arrays.asList("probsevere",
+            "probtor", "probhail", "probwind"));
+
+    // Source of the operational CONUS feed and of records stored before sources
+    public static final String DEFAULT_SOURCE = "conus";
+
+    // Suffix of the source of swath records derived from a feed
+    public static final String SWATH_SOURCE_SUFFIX = "-swath";
+
+    // Topic carrying records with a packed feature block
+    public static final String NOTIFICATION_TOPIC = "edex.alerts.probsevere";
+
+    // Topic carrying object threshold crossing events
+    public static final String CROSSING_TOPIC = "edex.alerts.probsevere.crossing";
+
     // Data store data item names
     @Transient
     private static final String[] DATA_NAMES = { "polygons", "propertiesKeys", "properties", "severeModelKeys", "severeModelProps", 
             "torModelKeys", "torModelProps", "hailModelKeys", "hailModelProps", "windModelKeys", "windModelProps"};
 
+    // Stands in for polygons that can not be read so geometries stay aligned with the shapes
+    @Transient
+    private static final Geometry EMPTY_POLYGON = new GeometryFactory().createPolygon((LinearRing) null, null);
+
     private final static transient IUFStatusHandler statusHandler = UFStatus.getHandler(ProbSevereRecord.class);
 
+    // Feed or domain the record was decoded from
+    @DataURI(position = 1)
+    @Column(length = 32, nullable = false)
+    @DynamicSerializeElement
+    private String source = DEFAULT_SOURCE;
+
     @Transient
     private String[] polygons = null;
 
@@ -117,6 +185,27 @@ IPersistable {
     @Transient
     private Object[] dataArrays = null;
 
+    // Geometries parsed from the polygons, kept until the polygons change or are released
+    @Transient
+    private transient volatile Geometry[] polyGeoms = null;
+
+    // Data store groups holding the data arrays of the shapes, sent with the
+    // record so a copy without the data store can find its simplified polygons
+    @Transient
+    @DynamicSerializeElement
+    private String[] storageGroups = null;
+
+    // Position of each shape within the datasets of the storage groups taken
+    // in order, null when the shapes are those datasets in order
+    @Transient
+    @DynamicSerializeElement
+    private int[] storageIndices = null;
+
+    // Compact copy of the data arrays for transport without the data store
+    @Transient
+    @DynamicSerializeElement
+    private byte[] featureBlock = null;
+
     @Transient
     private int insertIndex = 0;
 
@@ -139,6 +228,21 @@ IPersistable {
         super(uri);
     }
 
+    /**
+     * Creates the data URI of a stored record from the fields it is made of,
+     * so a record found by a database query need not be loaded
+     *
+     * @param source of the record
+     * @param valid time of the record
+     * @return data URI
+     */
+    public static String createDataURI(String source, Date refTime) {
+        ProbSevereRecord record = new ProbSevereRecord();
+        record.setSource(source);
+        record.setDataTime(new DataTime(refTime));
+        return record.getDataURI();
+    }
+
     /**
      * Constructs a ProbSevere record with a
      * given amount of shapes
@@ -158,6 +262,9 @@ IPersistable {
         hailModelProps = new String[psShapes.size()];
         windModelKeys = new String[psShapes.size()];
         windModelProps = new String[psShapes.size()];
+        if (psObject.getSource() != null) {
+            source = psObject.getSource();
+        }
         dataArrays = new Object[] { polygons, propertiesKeys, properties, severeModelKeys, severeModelProps,
                 torModelKeys, torModelProps, hailModelKeys, hailModelProps, windModelKeys, windModelProps};
         insertIndex = 0;
@@ -242,6 +349,34 @@ IPersistable {
         return polygon.toString();
     }
 
+    /**
+     * Retrieve feed or domain of the record
+     *
+     * @return source
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Set feed or domain of the record
+     *
+     * @param source
+     */
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Determines if the record was derived from other records rather than
+     * decoded from a data file
+     *
+     * @return true for a derived record
+     */
+    public boolean isDerived() {
+        return source != null && source.endsWith(SWATH_SOURCE_SUFFIX);
+    }
+
     /**
      * Retrieve names of data contained in data record
      *
@@ -280,23 +415,54 @@ IPersistable {
 
     /**
      * Creating Geometry objects from String representation
-     * of shape polygons
+     * of shape polygons. The polygons are parsed on the first call and the
+     * geometries are shared by later calls until the polygons change or
+     * releasePolyGeoms is called, so callers must not modify them.
      *
-     * @return Geometry objects of shape polygons
+     * @return Geometry objects of shape polygons, an empty polygon where
+     *         the text could not be read
      */
     public Geometry[] getPolyGeoms() {
-        Geometry[] polyGeoms = new Geometry [polygons.length];
+        Geometry[] geoms = polyGeoms;
+        if (geoms == null) {
+            synchronized (this) {
+                geoms = polyGeoms;
+                if (geoms == null && polygons != null) {
+                    geoms = parsePolyGeoms(polygons);
+                    polyGeoms = geoms;
+                }
+            }
+        }
+        return geoms;
+    }
+
+    /**
+     * Releases the geometries parsed by getPolyGeoms, they are parsed again
+     * if needed
+     */
+    public void releasePolyGeoms() {
+        polyGeoms = null;
+    }
+
+    /**
+     * Creating Geometry objects from String representation of polygons
+     *
+     * @param polygons as WKT
+     * @return Geometry objects of the polygons, an empty polygon where the
+     *         text could not be read
+     */
+    public static Geometry[] parsePolyGeoms(String[] polygons) {
+        Geometry[] geoms = new Geometry[polygons.length];
         WKTReader reader = new WKTReader();
-        int i = 0;
-        for (String poly : polygons) {
+        for (int i = 0; i < polygons.length; i++) {
             try {
-                polyGeoms[i] = reader.read(poly);
-                i++;
+                geoms[i] = reader.read(polygons[i]);
             } catch (Exception e) {
-                statusHandler.error("Well Known Text reader could not read selected text: " + poly, e);
+                statusHandler.error("Well Known Text reader could not read selected text: " + polygons[i], e);
+                geoms[i] = EMPTY_POLYGON;
             }
         }
-        return polyGeoms;
+        return geoms;
     }
 
     /**
@@ -389,6 +555,125 @@ IPersistable {
         return windModelProps;
     }
 
+    /**
+     * Retrieves the model types carried by each shape
+     *
+     * @return unmodifiable list of model types, in storage order
+     */
+    public static List<String> getModelTypes() {
+        return MODEL_TYPES;
+    }
+
+    /**
+     * Determines if a name is one of the model types, ignoring case
+     *
+     * @param model type name
+     * @return true if the name is a known model type
+     */
+    public static boolean isModelType(String modelType) {
+        for (String type : MODEL_TYPES) {
+            if (type.equalsIgnoreCase(modelType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retrieves the properties keys of a model type
+     *
+     * @param model type, one of getModelTypes()
+     * @return model properties keys, null for an unknown model type
+     */
+    public String[] getModelKeys(String modelType) {
+        if (modelType.equalsIgnoreCase("probsevere")) {
+            return severeModelKeys;
+        } else if (modelType.equalsIgnoreCase("probtor")) {
+            return torModelKeys;
+        } else if (modelType.equalsIgnoreCase("probhail")) {
+            return hailModelKeys;
+        } else if (modelType.equalsIgnoreCase("probwind")) {
+            return windModelKeys;
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the properties of a model type
+     *
+     * @param model type, one of getModelTypes()
+     * @return model properties, null for an unknown model type
+     */
+    public String[] getModelProps(String modelType) {
+        if (modelType.equalsIgnoreCase("probsevere")) {
+            return severeModelProps;
+        } else if (modelType.equalsIgnoreCase("probtor")) {
+            return torModelProps;
+        } else if (modelType.equalsIgnoreCase("probhail")) {
+            return hailModelProps;
+        } else if (modelType.equalsIgnoreCase("probwind")) {
+            return windModelProps;
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the probability of each shape for a model type
+     *
+     * @param model type, one of getModelTypes()
+     * @return shape probabilities, 0 where a shape has none
+     */
+    public int[] getModelProbabilities(String modelType) {
+        String[] modelKeys = getModelKeys(modelType);
+        String[] modelProps = getModelProps(modelType);
+        int[] probabilities = new int[polygons.length];
+        if (modelKeys != null && modelProps != null) {
+            for (int i = 0; i < probabilities.length; i++) {
+                probabilities[i] = parseProbability(modelKeys[i], modelProps[i]);
+            }
+        }
+        return probabilities;
+    }
+
+    /**
+     * Finds the PROB value within a pipe delimited properties string
+     *
+     * @param pipe delimited properties keys
+     * @param pipe delimited properties
+     * @return probability, 0 if it is not present or not a number
+     */
+    public static int parseProbability(String keys, String props) {
+        String[] propsKeys = keys.split("\\|");
+        String[] propsValues = props.split("\\|");
+        for (int p = 0; p < propsKeys.length && p < propsValues.length; p++) {
+            if (propsKeys[p].equalsIgnoreCase("prob")) {
+                try {
+                    return Integer.parseInt(propsValues[p].trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Rebuilds a properties map from pipe delimited keys and properties
+     *
+     * @param pipe delimited properties keys
+     * @param pipe delimited properties
+     * @return properties map in stored order
+     */
+    public static Map<String, String> createPropsMap(String keys, String props) {
+        Map<String, String> propsMap = new LinkedHashMap<String, String>();
+        String[] propsKeys = keys.split("\\|");
+        String[] propsValues = props.split("\\|", -1);
+        for (int p = 0; p < propsKeys.length; p++) {
+            propsMap.put(propsKeys[p], p < propsValues.length ? propsValues[p] : "");
+        }
+        return propsMap;
+    }
+
     /**
      * Sets the data arrays from the store.
      *
@@ -396,45 +681,320 @@ IPersistable {
      * @throws Exception
      */
     public void retrieveFromDataStore(IDataStore dataStore) throws Exception {
+        retrieveFromDataStore(dataStore, null);
+    }
+
+    /**
+     * Sets the data arrays from the store. If the record was stored in
+     * tiles, only the tiles that intersect the extent are read.
+     *
+     * @param dataStore
+     * @param extent in lon/lat, null to read every tile
+     * @throws Exception
+     */
+    public void retrieveFromDataStore(IDataStore dataStore, Envelope extent) throws Exception {
         IDataRecord[] dataRec = dataStore.retrieve(getDataURI());
-        Object[] dataArrays = new Object[dataRec.length];
-        for (int i = 0; i < dataRec.length; i++) {
-            if (dataRec[i].getName().equals("polygons")) {
-                polygons = ((StringDataRecord) dataRec[i]).getStringData();
-                dataArrays[i] = polygons;
-            } else if (dataRec[i].getName().equals("propertiesKeys")) {
-                propertiesKeys = ((StringDataRecord) dataRec[i]).getStringData();
-                dataArrays[i] = propertiesKeys;
-            } else if (dataRec[i].getName().equals("properties")) {
-                properties = ((StringDataRecord) dataRec[i]).getStringData();
-                dataArrays[i] = properties;
-            } else if (dataRec[i].getName().equals("severeModelKeys")) {
-                severeModelKeys = ((StringDataRecord) dataRec[i]).getStringData();
-                dataArrays[i] = severeModelKeys;
-            } else if (dataRec[i].getName().equals("severeModelProps")) {
-                severeModelProps = ((StringDataRecord) dataRec[i]).getStringData();
-                dataArrays[i] = severeModelProps;
-            } else if (dataRec[i].getName().equals("torModelKeys")) {
-                torModelKeys = ((StringDataRecord) dataRec[i]).getStringData();
-                dataArrays[i] = torModelKeys;
-            } else if (dataRec[i].getName().equals("torModelProps")) {
-                torModelProps = ((StringDataRecord) dataRec[i]).getStringData();
-                dataArrays[i] = torModelProps;
-            } else if (dataRec[i].getName().equals("hailModelKeys")) {
-                hailModelKeys = ((StringDataRecord) dataRec[i]).getStringData();
-                dataArrays[i] = hailModelKeys;
-            } else if (dataRec[i].getName().equals("hailModelProps")) {
-                hailModelProps = ((StringDataRecord) dataRec[i]).getStringData();
-                dataArrays[i] = hailModelProps;
-            } else if (dataRec[i].getName().equals("windModelKeys")) {
-                windModelKeys = ((StringDataRecord) dataRec[i]).getStringData();
-                dataArrays[i] = windModelKeys;
-            } else if (dataRec[i].getName().equals("windModelProps")) {
-                windModelProps = ((StringDataRecord) dataRec[i]).getStringData();
-                dataArrays[i] = windModelProps;
+        String[] tileKeys = null;
+        String[] tileBounds = null;
+        for (IDataRecord rec : dataRec) {
+            if (rec.getName().equals(ProbSevereTiling.TILE_KEYS)) {
+                tileKeys = ((StringDataRecord) rec).getStringData();
+            } else if (rec.getName().equals(ProbSevereTiling.TILE_BOUNDS)) {
+                tileBounds = ((StringDataRecord) rec).getStringData();
             }
         }
+        if (tileKeys == null || tileBounds == null) {
+            Object[] dataArrays = new Object[dataRec.length];
+            for (int i = 0; i < dataRec.length; i++) {
+                dataArrays[i] = setDataArray(dataRec[i].getName(),
+                        ((StringDataRecord) dataRec[i]).getStringData());
+            }
+            setDataArrays(dataArrays);
+            storageGroups = new String[] { getDataURI() };
+            storageIndices = null;
+            return;
+        }
+
+        List<String> groups = new ArrayList<String>();
+        for (int i = 0; i < tileKeys.length; i++) {
+            Envelope bounds = ProbSevereTiling.parseBounds(tileBounds[i]);
+            if (extent == null || (bounds != null && bounds.intersects(extent))) {
+                groups.add(ProbSevereTiling.getTileGroup(getDataURI(), tileKeys[i]));
+            }
+        }
+        Map<String, List<String>> tileData = new LinkedHashMap<String, List<String>>();
+        for (String name : DATA_NAMES) {
+            tileData.put(name, new ArrayList<String>());
+        }
+        if (!groups.isEmpty()) {
+            for (IDataRecord rec : dataStore.retrieveGroups(groups.toArray(new String[groups.size()]), Request.ALL)) {
+                List<String> values = tileData.get(rec.getName());
+                if (values != null) {
+                    values.addAll(Arrays.asList(((StringDataRecord) rec).getStringData()));
+                }
+            }
+        }
+        Object[] dataArrays = new Object[DATA_NAMES.length];
+        for (int i = 0; i < DATA_NAMES.length; i++) {
+            List<String> values = tileData.get(DATA_NAMES[i]);
+            dataArrays[i] = setDataArray(DATA_NAMES[i], values.toArray(new String[values.size()]));
+        }
         setDataArrays(dataArrays);
+        storageGroups = groups.toArray(new String[groups.size()]);
+        storageIndices = null;
+    }
+
+    /**
+     * Reads the simplified polygons of a level of detail, see ProbSevereLod,
+     * from the storage groups of the shapes. Records read from the store,
+     * stored by this server or received with their storage groups know them.
+     * A record without storage groups, such as one from an older server, is
+     * looked up in the data URI group, which only holds the levels of records
+     * that were not stored in tiles, so a tiled record falls back to full
+     * resolution. Derived records are stored without levels of detail.
+     *
+     * @param dataStore
+     * @param level, 1 or more
+     * @return simplified polygons in shape order, null if the level is not
+     *         stored for every shape
+     */
+    public String[] retrieveLodPolygons(IDataStore dataStore, int level) {
+        if (isDerived()) {
+            return null;
+        }
+        String[] groups = storageGroups;
+        int[] indices = storageIndices;
+        if (groups == null) {
+            groups = new String[] { getDataURI() };
+            indices = null;
+        }
+        String[] paths = new String[groups.length];
+        for (int i = 0; i < groups.length; i++) {
+            paths[i] = ProbSevereLod.getLodGroup(groups[i]) + "/" + ProbSevereLod.getDatasetName(level);
+        }
+        List<String> lodPolygons = new ArrayList<String>();
+        try {
+            for (IDataRecord rec : dataStore.retrieveDatasets(paths, Request.ALL)) {
+                lodPolygons.addAll(Arrays.asList(((StringDataRecord) rec).getStringData()));
+            }
+        } catch (Exception e) {
+            // Records stored before levels of detail were added have none
+            return null;
+        }
+        if (polygons == null) {
+            return null;
+        }
+        if (indices == null) {
+            return lodPolygons.size() == polygons.length ? lodPolygons.toArray(new String[lodPolygons.size()])
+                    : null;
+        }
+        if (indices.length != polygons.length) {
+            return null;
+        }
+        String[] selected = new String[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            if (indices[i] < 0 || indices[i] >= lodPolygons.size()) {
+                return null;
+            }
+            selected[i] = lodPolygons.get(indices[i]);
+        }
+        return selected;
+    }
+
+    /**
+     * Retrieve data store groups holding the data arrays of the shapes
+     *
+     * @return groups, null if they are not known
+     */
+    public String[] getStorageGroups() {
+        return storageGroups;
+    }
+
+    /**
+     * Set data store groups holding the data arrays of the shapes
+     *
+     * @param groups
+     */
+    public void setStorageGroups(String[] storageGroups) {
+        this.storageGroups = storageGroups;
+    }
+
+    /**
+     * Retrieve position of each shape within the datasets of the storage
+     * groups taken in order
+     *
+     * @return positions, null when the shapes are those datasets in order
+     */
+    public int[] getStorageIndices() {
+        return storageIndices;
+    }
+
+    /**
+     * Set position of each shape within the datasets of the storage groups
+     * taken in order
+     *
+     * @param positions, null when the shapes are those datasets in order
+     */
+    public void setStorageIndices(int[] storageIndices) {
+        this.storageIndices = storageIndices;
+    }
+
+    /**
+     * Retrieves the compact feature block of this record
+     *
+     * @return feature block, null if one has not been packed
+     */
+    public byte[] getFeatureBlock() {
+        return featureBlock;
+    }
+
+    /**
+     * Set the compact feature block of this record
+     *
+     * @param feature block
+     */
+    public void setFeatureBlock(byte[] featureBlock) {
+        this.featureBlock = featureBlock;
+    }
+
+    /**
+     * Packs the data arrays of a complete record into the feature block
+     *
+     * @return true if the feature block was packed
+     */
+    public boolean packFeatureBlock() {
+        featureBlock = createFeatureBlock();
+        return featureBlock != null;
+    }
+
+    /**
+     * Creates a feature block from the data arrays of a complete record
+     * without attaching it to the record
+     *
+     * @return feature block, null if the record is incomplete
+     */
+    public byte[] createFeatureBlock() {
+        if (dataArrays == null || !isRecordComplete()) {
+            return null;
+        }
+        String[][] datasets = new String[DATA_NAMES.length][];
+        for (int i = 0; i < DATA_NAMES.length; i++) {
+            datasets[i] = getDataArray(DATA_NAMES[i]);
+        }
+        try {
+            return ProbSevereFeatureBlock.encode(DATA_NAMES, datasets);
+        } catch (Exception e) {
+            statusHandler.error("Problem packing ProbSevere feature block for: " + getDataURI(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Creates a feature block holding only some of the shapes of a complete
+     * record without attaching it to the record
+     *
+     * @param indices of the shapes to include
+     * @return feature block, null if the record is incomplete
+     */
+    public byte[] createFeatureBlock(List<Integer> indices) {
+        if (dataArrays == null || !isRecordComplete()) {
+            return null;
+        }
+        String[][] datasets = new String[DATA_NAMES.length][];
+        for (int i = 0; i < DATA_NAMES.length; i++) {
+            String[] data = getDataArray(DATA_NAMES[i]);
+            datasets[i] = new String[indices.size()];
+            for (int n = 0; n < indices.size(); n++) {
+                datasets[i][n] = data[indices.get(n).intValue()];
+            }
+        }
+        try {
+            return ProbSevereFeatureBlock.encode(DATA_NAMES, datasets);
+        } catch (Exception e) {
+            statusHandler.error("Problem packing ProbSevere feature block for: " + getDataURI(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Sets the data arrays from the feature block. A notification payload
+     * record is shared by every observer, so unpacking is synchronized and
+     * unpacking a record again only reports whether it is complete.
+     *
+     * @return true if the record is complete after unpacking
+     */
+    public synchronized boolean unpackFeatureBlock() {
+        if (featureBlock == null) {
+            return dataArrays != null && isRecordComplete();
+        }
+        try {
+            String[][] datasets = ProbSevereFeatureBlock.decode(featureBlock, DATA_NAMES);
+            Object[] dataArrays = new Object[DATA_NAMES.length];
+            for (int i = 0; i < DATA_NAMES.length; i++) {
+                dataArrays[i] = setDataArray(DATA_NAMES[i], datasets[i]);
+            }
+            setDataArrays(dataArrays);
+        } catch (Exception e) {
+            statusHandler.error("Problem unpacking ProbSevere feature block for: " + getDataURI(), e);
+            return false;
+        }
+        featureBlock = null;
+        return isRecordComplete();
+    }
+
+    private String[] getDataArray(String name) {
+        if (name.equals("polygons")) {
+            return polygons;
+        } else if (name.equals("propertiesKeys")) {
+            return propertiesKeys;
+        } else if (name.equals("properties")) {
+            return properties;
+        } else if (name.equals("severeModelKeys")) {
+            return severeModelKeys;
+        } else if (name.equals("severeModelProps")) {
+            return severeModelProps;
+        } else if (name.equals("torModelKeys")) {
+            return torModelKeys;
+        } else if (name.equals("torModelProps")) {
+            return torModelProps;
+        } else if (name.equals("hailModelKeys")) {
+            return hailModelKeys;
+        } else if (name.equals("hailModelProps")) {
+            return hailModelProps;
+        } else if (name.equals("windModelKeys")) {
+            return windModelKeys;
+        } else if (name.equals("windModelProps")) {
+            return windModelProps;
+        }
+        return null;
+    }
+
+    private String[] setDataArray(String name, String[] data) {
+        if (name.equals("polygons")) {
+            polygons = data;
+            polyGeoms = null;
+        } else if (name.equals("propertiesKeys")) {
+            propertiesKeys = data;
+        } else if (name.equals("properties")) {
+            properties = data;
+        } else if (name.equals("severeModelKeys")) {
+            severeModelKeys = data;
+        } else if (name.equals("severeModelProps")) {
+            severeModelProps = data;
+        } else if (name.equals("torModelKeys")) {
+            torModelKeys = data;
+        } else if (name.equals("torModelProps")) {
+            torModelProps = data;
+        } else if (name.equals("hailModelKeys")) {
+            hailModelKeys = data;
+        } else if (name.equals("hailModelProps")) {
+            hailModelProps = data;
+        } else if (name.equals("windModelKeys")) {
+            windModelKeys = data;
+        } else if (name.equals("windModelProps")) {
+            windModelProps = data;
+        }
+        return data;
     }
 
     /**
@@ -0,0 +1,312 @@
+package edu.wisc.ssec.cimss.common.dataplugin.probsevere;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+import org.hibernate.annotations.Index;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Rollup Record Definition
+ *
+ * Count of the objects of one frame at or above a probability threshold of
+ * one model within one CWA, computed as the frame is persisted so dashboards
+ * can read a few rows instead of whole frames. An object overlapping several
+ * CWAs counts in each of them, and the ALL rows count every object of the
+ * frame. Every ALL row is stored, including zero counts, so each frame has
+ * rows even when it held no objects above a threshold. Only non-zero counts
+ * are stored for a CWA. Rows are removed along with their parent record.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Store ALL rows with zero counts.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+@Entity
+@SequenceGenerator(initialValue = 1, name = ProbSevereRollupRecord.ID_GEN, sequenceName = "probsevere_rollupseq")
+@Table(name = ProbSevereRollupRecord.TABLE_NAME)
+@org.hibernate.annotations.Table(appliesTo = ProbSevereRollupRecord.TABLE_NAME, indexes = {
+        @Index(name = "probsevere_rollup_cwaIndex", columnNames = { "source", "cwa", "refTime" }),
+        @Index(name = "probsevere_rollup_refTimeIndex", columnNames = { "refTime" }),
+        @Index(name = "probsevere_rollup_parentIndex", columnNames = { "parentId" }) })
+public class ProbSevereRollupRecord implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String TABLE_NAME = "probsevere_rollup";
+
+    public static final String ID_GEN = "probsevereRollupIdGen";
+
+    // CWA of the rows counting every object of a frame
+    public static final String ALL_CWAS = "ALL";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_GEN)
+    private int id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "parentId", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private ProbSevereRecord parent;
+
+    @Column(length = 32, nullable = false)
+    private String source;
+
+    @Column(nullable = false)
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date refTime;
+
+    @Column(length = 8, nullable = false)
+    private String cwa;
+
+    @Column(length = 16, nullable = false)
+    private String modelType;
+
+    @Column
+    private int threshold;
+
+    @Column
+    private int objectCount;
+
+    /**
+     * Required empty constructor.
+     */
+    public ProbSevereRollupRecord() {
+    }
+
+    /**
+     * Counts the objects of a complete, persisted record at or above each
+     * threshold of each model within each CWA they overlap
+     *
+     * @param complete ProbSevere record with a database id
+     * @param thresholds to count objects at
+     * @return ALL rollup rows and CWA rollup rows with a non-zero count
+     */
+    public static List<ProbSevereRollupRecord> createRollupRecords(ProbSevereRecord record, int[] thresholds) {
+        List<String> modelTypes = ProbSevereRecord.getModelTypes();
+        int[][] probabilities = new int[modelTypes.size()][];
+        for (int m = 0; m < modelTypes.size(); m++) {
+            probabilities[m] = record.getModelProbabilities(modelTypes.get(m));
+        }
+        Map<String, int[][]> counts = new LinkedHashMap<String, int[][]>();
+        counts.put(ALL_CWAS, new int[modelTypes.size()][thresholds.length]);
+        String[] propertiesKeys = record.getPropertiesKeys();
+        for (int i = 0; i < propertiesKeys.length; i++) {
+            List<String> cwas = new ArrayList<String>();
+            cwas.add(ALL_CWAS);
+            String cwaIds = ProbSevereRecord.createPropsMap(propertiesKeys[i], record.getProperties()[i])
+                    .get(ProbSevereFeatureRecord.CWA_PROPERTY);
+            if (cwaIds != null) {
+                for (String cwa : cwaIds.split(",")) {
+                    if (!cwa.isEmpty() && !cwas.contains(cwa)) {
+                        cwas.add(cwa);
+                    }
+                }
+            }
+            for (String cwa : cwas) {
+                int[][] cwaCounts = counts.get(cwa);
+                if (cwaCounts == null) {
+                    cwaCounts = new int[modelTypes.size()][thresholds.length];
+                    counts.put(cwa, cwaCounts);
+                }
+                for (int m = 0; m < modelTypes.size(); m++) {
+                    for (int t = 0; t < thresholds.length; t++) {
+                        if (probabilities[m][i] >= thresholds[t]) {
+                            cwaCounts[m][t]++;
+                        }
+                    }
+                }
+            }
+        }
+
+        List<ProbSevereRollupRecord> rollups = new ArrayList<ProbSevereRollupRecord>();
+        Date refTime = record.getDataTime().getRefTime();
+        for (Map.Entry<String, int[][]> entry : counts.entrySet()) {
+            for (int m = 0; m < modelTypes.size(); m++) {
+                for (int t = 0; t < thresholds.length; t++) {
+                    if (entry.getValue()[m][t] > 0 || ALL_CWAS.equals(entry.getKey())) {
+                        ProbSevereRollupRecord rollup = new ProbSevereRollupRecord();
+                        rollup.setParent(record);
+                        rollup.setSource(record.getSource());
+                        rollup.setRefTime(refTime);
+                        rollup.setCwa(entry.getKey());
+                        rollup.setModelType(modelTypes.get(m));
+                        rollup.setThreshold(thresholds[t]);
+                        rollup.setObjectCount(entry.getValue()[m][t]);
+                        rollups.add(rollup);
+                    }
+                }
+            }
+        }
+        return rollups;
+    }
+
+    /**
+     * Retrieve database id of this row
+     *
+     * @return id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Set database id of this row
+     *
+     * @param id
+     */
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Retrieve record this row was computed from
+     *
+     * @return parent record
+     */
+    public ProbSevereRecord getParent() {
+        return parent;
+    }
+
+    /**
+     * Set record this row was computed from
+     *
+     * @param parent record
+     */
+    public void setParent(ProbSevereRecord parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Retrieve feed the rollup was computed from
+     *
+     * @return source
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Set feed the rollup was computed from
+     *
+     * @param source
+     */
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Retrieve valid time of the rolled up frame
+     *
+     * @return valid time
+     */
+    public Date getRefTime() {
+        return refTime;
+    }
+
+    /**
+     * Set valid time of the rolled up frame
+     *
+     * @param valid time
+     */
+    public void setRefTime(Date refTime) {
+        this.refTime = refTime;
+    }
+
+    /**
+     * Retrieve CWA of the rollup
+     *
+     * @return CWA ID, ALL for the whole frame
+     */
+    public String getCwa() {
+        return cwa;
+    }
+
+    /**
+     * Set CWA of the rollup
+     *
+     * @param CWA ID, ALL for the whole frame
+     */
+    public void setCwa(String cwa) {
+        this.cwa = cwa;
+    }
+
+    /**
+     * Retrieve model type of the rollup
+     *
+     * @return model type
+     */
+    public String getModelType() {
+        return modelType;
+    }
+
+    /**
+     * Set model type of the rollup
+     *
+     * @param model type
+     */
+    public void setModelType(String modelType) {
+        this.modelType = modelType;
+    }
+
+    /**
+     * Retrieve probability threshold of the rollup
+     *
+     * @return probability threshold
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Set probability threshold of the rollup
+     *
+     * @param probability threshold
+     */
+    public void setThreshold(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Retrieve number of objects at or above the threshold
+     *
+     * @return object count
+     */
+    public int getObjectCount() {
+        return objectCount;
+    }
+
+    /**
+     * Set number of objects at or above the threshold
+     *
+     * @param object count
+     */
+    public void setObjectCount(int objectCount) {
+        this.objectCount = objectCount;
+    }
+}
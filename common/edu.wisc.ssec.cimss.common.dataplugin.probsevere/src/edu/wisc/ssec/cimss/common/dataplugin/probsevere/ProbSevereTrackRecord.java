@@ -0,0 +1,302 @@
+package edu.wisc.ssec.cimss.common.dataplugin.probsevere;
+
+import java.io.Serializable;
+import java.util.Date;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+import javax.persistence.UniqueConstraint;
+
+import org.hibernate.annotations.Index;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Track Record Definition
+ *
+ * Lifetime summary of a single ProbSevere object, maintained as each frame
+ * is ingested. The individual track points are the probsevere_feature rows
+ * of the object.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Track objects per source.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+@Entity
+@SequenceGenerator(initialValue = 1, name = ProbSevereTrackRecord.ID_GEN, sequenceName = "probsevere_trackseq")
+@Table(name = ProbSevereTrackRecord.TABLE_NAME, uniqueConstraints = { @UniqueConstraint(name = "uk_probsevere_track_source_objectid", columnNames = {
+        "source", "objectId" }) })
+@org.hibernate.annotations.Table(appliesTo = ProbSevereTrackRecord.TABLE_NAME, indexes = {
+        @Index(name = "probsevere_track_lastTimeIndex", columnNames = { "lastTime" }) })
+public class ProbSevereTrackRecord implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String TABLE_NAME = "probsevere_track";
+
+    public static final String ID_GEN = "probsevereTrackIdGen";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_GEN)
+    private int id;
+
+    @Column(length = 32, nullable = false)
+    private String source;
+
+    @Column(length = 32, nullable = false)
+    private String objectId;
+
+    @Column(nullable = false)
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date firstTime;
+
+    @Column(nullable = false)
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date lastTime;
+
+    @Column
+    private int frameCount;
+
+    @Column
+    private int maxSevereProb;
+
+    @Column
+    private int maxTorProb;
+
+    @Column
+    private int maxHailProb;
+
+    @Column
+    private int maxWindProb;
+
+    /**
+     * Required empty constructor.
+     */
+    public ProbSevereTrackRecord() {
+    }
+
+    /**
+     * Constructs a track for an object
+     *
+     * @param source of the object
+     * @param object ID
+     */
+    public ProbSevereTrackRecord(String source, String objectId) {
+        this.source = source;
+        this.objectId = objectId;
+    }
+
+    /**
+     * Adds a track point to the lifetime summary
+     *
+     * @param feature row of this object
+     */
+    public void addFeature(ProbSevereFeatureRecord feature) {
+        Date refTime = feature.getRefTime();
+        if (firstTime == null || refTime.before(firstTime)) {
+            firstTime = refTime;
+        }
+        if (lastTime == null || refTime.after(lastTime)) {
+            lastTime = refTime;
+        }
+        frameCount++;
+        maxSevereProb = Math.max(maxSevereProb, feature.getSevereProb());
+        maxTorProb = Math.max(maxTorProb, feature.getTorProb());
+        maxHailProb = Math.max(maxHailProb, feature.getHailProb());
+        maxWindProb = Math.max(maxWindProb, feature.getWindProb());
+    }
+
+    /**
+     * Retrieve database id of this row
+     *
+     * @return id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Set database id of this row
+     *
+     * @param id
+     */
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Retrieve source of this track
+     *
+     * @return source
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Set source of this track
+     *
+     * @param source
+     */
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Retrieve object ID of this track
+     *
+     * @return object ID
+     */
+    public String getObjectId() {
+        return objectId;
+    }
+
+    /**
+     * Set object ID of this track
+     *
+     * @param object ID
+     */
+    public void setObjectId(String objectId) {
+        this.objectId = objectId;
+    }
+
+    /**
+     * Retrieve first valid time of this track
+     *
+     * @return first valid time
+     */
+    public Date getFirstTime() {
+        return firstTime;
+    }
+
+    /**
+     * Set first valid time of this track
+     *
+     * @param first valid time
+     */
+    public void setFirstTime(Date firstTime) {
+        this.firstTime = firstTime;
+    }
+
+    /**
+     * Retrieve last valid time of this track
+     *
+     * @return last valid time
+     */
+    public Date getLastTime() {
+        return lastTime;
+    }
+
+    /**
+     * Set last valid time of this track
+     *
+     * @param last valid time
+     */
+    public void setLastTime(Date lastTime) {
+        this.lastTime = lastTime;
+    }
+
+    /**
+     * Retrieve number of frames holding this object
+     *
+     * @return frame count
+     */
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Set number of frames holding this object
+     *
+     * @param frame count
+     */
+    public void setFrameCount(int frameCount) {
+        this.frameCount = frameCount;
+    }
+
+    /**
+     * Retrieve lifetime maximum ProbSevere probability
+     *
+     * @return probability
+     */
+    public int getMaxSevereProb() {
+        return maxSevereProb;
+    }
+
+    /**
+     * Set lifetime maximum ProbSevere probability
+     *
+     * @param probability
+     */
+    public void setMaxSevereProb(int maxSevereProb) {
+        this.maxSevereProb = maxSevereProb;
+    }
+
+    /**
+     * Retrieve lifetime maximum ProbTor probability
+     *
+     * @return probability
+     */
+    public int getMaxTorProb() {
+        return maxTorProb;
+    }
+
+    /**
+     * Set lifetime maximum ProbTor probability
+     *
+     * @param probability
+     */
+    public void setMaxTorProb(int maxTorProb) {
+        this.maxTorProb = maxTorProb;
+    }
+
+    /**
+     * Retrieve lifetime maximum ProbHail probability
+     *
+     * @return probability
+     */
+    public int getMaxHailProb() {
+        return maxHailProb;
+    }
+
+    /**
+     * Set lifetime maximum ProbHail probability
+     *
+     * @param probability
+     */
+    public void setMaxHailProb(int maxHailProb) {
+        this.maxHailProb = maxHailProb;
+    }
+
+    /**
+     * Retrieve lifetime maximum ProbWind probability
+     *
+     * @return probability
+     */
+    public int getMaxWindProb() {
+        return maxWindProb;
+    }
+
+    /**
+     * Set lifetime maximum ProbWind probability
+     *
+     * @param probability
+     */
+    public void setMaxWindProb(int maxWindProb) {
+        this.maxWindProb = maxWindProb;
+    }
+
+}
@@ -0,0 +1,130 @@
+package edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Feature Block
+ *
+ * Compact binary encoding of the string datasets of a ProbSevere record so
+ * a complete frame can travel inside a serialized record instead of being
+ * read back out of the data store
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereFeatureBlock {
+
+    // Identifies the block layout, bumped if the layout ever changes
+    private static final int BLOCK_VERSION = 1;
+
+    private ProbSevereFeatureBlock() {
+    }
+
+    /**
+     * Encodes named string datasets into a deflated binary block
+     *
+     * @param names of the datasets
+     * @param datasets to encode, one per name
+     * @return encoded block
+     * @throws IOException
+     */
+    public static byte[] encode(String[] names, String[][] datasets) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes,
+                new Deflater(Deflater.BEST_SPEED)));
+        try {
+            out.writeInt(BLOCK_VERSION);
+            out.writeInt(names.length);
+            for (int i = 0; i < names.length; i++) {
+                writeString(out, names[i]);
+                String[] dataset = datasets[i];
+                out.writeInt(dataset == null ? -1 : dataset.length);
+                if (dataset != null) {
+                    for (String value : dataset) {
+                        writeString(out, value);
+                    }
+                }
+            }
+        } finally {
+            out.close();
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a block created by encode
+     *
+     * @param block to decode
+     * @param names of the datasets to extract
+     * @return datasets in the order of names, null where the block has none
+     * @throws IOException
+     */
+    public static String[][] decode(byte[] block, String[] names) throws IOException {
+        String[][] datasets = new String[names.length][];
+        DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(block)));
+        try {
+            int version = in.readInt();
+            if (version != BLOCK_VERSION) {
+                throw new IOException("Unsupported ProbSevere feature block version: " + version);
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String name = readString(in);
+                int length = in.readInt();
+                String[] dataset = null;
+                if (length >= 0) {
+                    dataset = new String[length];
+                    for (int j = 0; j < length; j++) {
+                        dataset[j] = readString(in);
+                    }
+                }
+                for (int n = 0; n < names.length; n++) {
+                    if (names[n].equals(name)) {
+                        datasets[n] = dataset;
+                        break;
+                    }
+                }
+            }
+        } finally {
+            in.close();
+        }
+        return datasets;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(utf8.length);
+            out.write(utf8);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] utf8 = new byte[length];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,235 @@
+package edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl;
+
+import java.util.List;
+
+import com.vividsolutions.jts.algorithm.locate.IndexedPointInAreaLocator;
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.Envelope;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.Location;
+import com.vividsolutions.jts.geom.Polygonal;
+import com.vividsolutions.jts.io.WKTReader;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Grid
+ *
+ * Regular lon/lat grid holding the maximum probability of each model within
+ * each cell of a frame. Rows run from north to south so a grid can be drawn
+ * as an image without flipping. Grids are stored as one byte dataset per
+ * model type in a grid group next to the record group, so reading the record
+ * group does not read them, along with a gridInfo dataset describing the
+ * grid.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Store grids next to the record group.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereGrid {
+
+    // Data store item describing the grid of a record
+    public static final String GRID_INFO = "gridInfo";
+
+    private final double minLon;
+
+    private final double maxLat;
+
+    private final double resolution;
+
+    private final int nx;
+
+    private final int ny;
+
+    /**
+     * Constructs a grid covering an extent
+     *
+     * @param extent in lon/lat
+     * @param resolution of a cell in degrees
+     */
+    public ProbSevereGrid(Envelope extent, double resolution) {
+        this.minLon = extent.getMinX();
+        this.maxLat = extent.getMaxY();
+        this.resolution = resolution;
+        this.nx = Math.max(1, (int) Math.ceil(extent.getWidth() / resolution));
+        this.ny = Math.max(1, (int) Math.ceil(extent.getHeight() / resolution));
+    }
+
+    /**
+     * Constructs a grid from a stored gridInfo dataset
+     *
+     * @param info stored grid info
+     */
+    public ProbSevereGrid(float[] info) {
+        this.minLon = info[0];
+        this.maxLat = info[1];
+        this.resolution = info[2];
+        this.nx = (int) info[3];
+        this.ny = (int) info[4];
+    }
+
+    /**
+     * Retrieve the grid description for storage
+     *
+     * @return minLon, maxLat, resolution, nx, ny
+     */
+    public float[] getInfo() {
+        return new float[] { (float) minLon, (float) maxLat, (float) resolution, nx, ny };
+    }
+
+    /**
+     * Retrieve the data store group of the grids of a record
+     *
+     * @param data URI of the record
+     * @return group name
+     */
+    public static String getGridGroup(String dataURI) {
+        return dataURI + "-grid";
+    }
+
+    /**
+     * Rasterizes a complete record, setting each cell to the maximum
+     * probability of the shapes covering its center. A shape smaller than a
+     * cell sets the cell holding its centroid so small objects stay visible.
+     *
+     * @param complete record
+     * @return grids indexed like ProbSevereRecord.getModelTypes(), rows north to south
+     */
+    public byte[][] rasterize(ProbSevereRecord record) {
+        List<String> modelTypes = ProbSevereRecord.getModelTypes();
+        int[][] probabilities = new int[modelTypes.size()][];
+        for (int m = 0; m < modelTypes.size(); m++) {
+            probabilities[m] = record.getModelProbabilities(modelTypes.get(m));
+        }
+        byte[][] grids = new byte[modelTypes.size()][nx * ny];
+        String[] polygons = record.getPolygons();
+        WKTReader reader = new WKTReader();
+        Coordinate center = new Coordinate();
+        for (int i = 0; i < polygons.length; i++) {
+            Geometry geom;
+            try {
+                geom = reader.read(polygons[i]);
+            } catch (Exception e) {
+                continue;
+            }
+            if (!(geom instanceof Polygonal) || geom.isEmpty()) {
+                continue;
+            }
+            Envelope env = geom.getEnvelopeInternal();
+            int c0 = Math.max(0, getColumn(env.getMinX()));
+            int c1 = Math.min(nx - 1, getColumn(env.getMaxX()));
+            int r0 = Math.max(0, getRow(env.getMaxY()));
+            int r1 = Math.min(ny - 1, getRow(env.getMinY()));
+            boolean covered = false;
+            IndexedPointInAreaLocator locator = new IndexedPointInAreaLocator(geom);
+            for (int r = r0; r <= r1; r++) {
+                center.y = maxLat - (r + 0.5) * resolution;
+                for (int c = c0; c <= c1; c++) {
+                    center.x = minLon + (c + 0.5) * resolution;
+                    if (locator.locate(center) != Location.EXTERIOR) {
+                        setMax(grids, probabilities, i, r * nx + c);
+                        covered = true;
+                    }
+                }
+            }
+            if (!covered) {
+                Coordinate centroid = geom.getCentroid().getCoordinate();
+                int c = getColumn(centroid.x);
+                int r = getRow(centroid.y);
+                if (c >= 0 && c < nx && r >= 0 && r < ny) {
+                    setMax(grids, probabilities, i, r * nx + c);
+                }
+            }
+        }
+        return grids;
+    }
+
+    private void setMax(byte[][] grids, int[][] probabilities, int shape, int cell) {
+        for (int m = 0; m < grids.length; m++) {
+            int prob = Math.min(100, probabilities[m][shape]);
+            if (prob > grids[m][cell]) {
+                grids[m][cell] = (byte) prob;
+            }
+        }
+    }
+
+    private int getColumn(double lon) {
+        return (int) Math.floor((lon - minLon) / resolution);
+    }
+
+    private int getRow(double lat) {
+        return (int) Math.floor((maxLat - lat) / resolution);
+    }
+
+    /**
+     * Retrieve western edge of the grid
+     *
+     * @return minimum longitude
+     */
+    public double getMinLon() {
+        return minLon;
+    }
+
+    /**
+     * Retrieve northern edge of the grid
+     *
+     * @return maximum latitude
+     */
+    public double getMaxLat() {
+        return maxLat;
+    }
+
+    /**
+     * Retrieve eastern edge of the grid
+     *
+     * @return maximum longitude
+     */
+    public double getMaxLon() {
+        return minLon + nx * resolution;
+    }
+
+    /**
+     * Retrieve southern edge of the grid
+     *
+     * @return minimum latitude
+     */
+    public double getMinLat() {
+        return maxLat - ny * resolution;
+    }
+
+    /**
+     * Retrieve cell size in degrees
+     *
+     * @return resolution
+     */
+    public double getResolution() {
+        return resolution;
+    }
+
+    /**
+     * Retrieve number of columns
+     *
+     * @return nx
+     */
+    public int getNx() {
+        return nx;
+    }
+
+    /**
+     * Retrieve number of rows
+     *
+     * @return ny
+     */
+    public int getNy() {
+        return ny;
+    }
+
+}
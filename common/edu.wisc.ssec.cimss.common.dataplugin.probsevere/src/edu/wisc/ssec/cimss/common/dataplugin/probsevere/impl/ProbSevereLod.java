@@ -0,0 +1,99 @@
+package edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl;
+
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.io.WKTReader;
+import com.vividsolutions.jts.io.WKTWriter;
+import com.vividsolutions.jts.simplify.TopologyPreservingSimplifier;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Level Of Detail
+ *
+ * Simplified copies of the shape polygons of a frame, one per level of
+ * detail, so a wide view can draw and read far fewer vertices. Level 0 is
+ * the full-resolution polygons dataset. Each coarser level is stored as a
+ * dataset of a lod group next to every group holding polygons, so reading
+ * the polygons group does not read them, in the same shape order as those
+ * polygons.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Store levels next to the polygons group.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereLod {
+
+    // Simplification tolerance in degrees of each level, level 0 is not simplified
+    public static final double[] TOLERANCES = { 0.0, 0.01, 0.03 };
+
+    private ProbSevereLod() {
+    }
+
+    /**
+     * Retrieve the data store group of the simplified polygons stored next to
+     * a polygons dataset
+     *
+     * @param group holding the polygons dataset
+     * @return group name
+     */
+    public static String getLodGroup(String group) {
+        return group + "-lod";
+    }
+
+    /**
+     * Retrieve the data store item name of a level
+     *
+     * @param level, 1 or more
+     * @return dataset name
+     */
+    public static String getDatasetName(int level) {
+        return "polygons" + level;
+    }
+
+    /**
+     * Selects the coarsest level whose simplification stays within one
+     * pixel
+     *
+     * @param degrees of longitude per screen pixel
+     * @return level, 0 for full resolution
+     */
+    public static int selectLevel(double degreesPerPixel) {
+        int level = 0;
+        for (int l = 1; l < TOLERANCES.length; l++) {
+            if (TOLERANCES[l] <= degreesPerPixel) {
+                level = l;
+            }
+        }
+        return level;
+    }
+
+    /**
+     * Simplifies shape polygons, keeping each polygon valid
+     *
+     * @param polygons as WKT
+     * @param level, 1 or more
+     * @return simplified polygons as WKT, unchanged where a polygon can not
+     *         be read
+     */
+    public static String[] simplify(String[] polygons, int level) {
+        WKTReader reader = new WKTReader();
+        WKTWriter writer = new WKTWriter();
+        String[] simplified = new String[polygons.length];
+        for (int i = 0; i < polygons.length; i++) {
+            try {
+                Geometry geom = reader.read(polygons[i]);
+                simplified[i] = writer.write(TopologyPreservingSimplifier.simplify(geom, TOLERANCES[level]));
+            } catch (Exception e) {
+                simplified[i] = polygons[i];
+            }
+        }
+        return simplified;
+    }
+
+}
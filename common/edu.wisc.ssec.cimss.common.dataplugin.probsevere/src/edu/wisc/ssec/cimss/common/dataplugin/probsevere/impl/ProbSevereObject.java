@@ -14,6 +14,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
  * Date         Ticket#     Engineer    Description
  * ------------ ----------  ----------- --------------------------
  * Nov 29, 2018 DCS 20816   lcronce     Initial Creation.
+ * Oct 19, 2026             cimss       Added source.
  *
  * </pre
  *
@@ -29,6 +30,8 @@ public class ProbSevereObject {
 
     private String validTime;
 
+    private String source;
+
     private List<ProbSevereShape> features;
 
     /**
@@ -37,6 +40,24 @@ public class ProbSevereObject {
     public ProbSevereObject() {
     }
 
+    /**
+     * Retrieve feed or domain of data file
+     *
+     * @return source, null if the data file does not name one
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Set feed or domain of data file
+     *
+     * @param source
+     */
+    public void setSource(String source) {
+        this.source = source;
+    }
+
     /**
      * Retrieve file format of data file
      *
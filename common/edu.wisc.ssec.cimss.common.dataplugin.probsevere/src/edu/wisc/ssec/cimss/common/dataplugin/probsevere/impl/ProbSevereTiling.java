@@ -0,0 +1,205 @@
+package edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.Envelope;
+import com.vividsolutions.jts.io.WKTReader;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Tiling
+ *
+ * Splits the shapes of a frame into fixed geographic tiles. Each shape is
+ * assigned to the tile holding the center of its envelope, and each tile
+ * records the combined envelope of its shapes so a reader can select the
+ * tiles that intersect an extent without missing shapes that cross a tile
+ * edge. Tiles are stored as groups next to the data URI group, so reading
+ * the data URI group does not read them, and are listed by the tileKeys and
+ * tileBounds datasets of the data URI group.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Added tile shape indices.
+ * Oct 19, 2026             cimss       Store tiles next to the record group
+ *                                      and align read extents to tiles.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereTiling {
+
+    // Width and height of a tile in degrees
+    public static final double TILE_DEGREES = 5.0;
+
+    // Data store item listing the tile keys of a tiled record
+    public static final String TILE_KEYS = "tileKeys";
+
+    // Data store item listing the combined shape envelope of each tile
+    public static final String TILE_BOUNDS = "tileBounds";
+
+    // Key of the tile holding shapes whose polygon could not be parsed
+    private static final String INVALID_KEY = "invalid";
+
+    private ProbSevereTiling() {
+    }
+
+    /**
+     * Retrieve the data store group of a tile
+     *
+     * @param data URI of the record
+     * @param tile key
+     * @return group name
+     */
+    public static String getTileGroup(String dataURI, String key) {
+        return dataURI + "-tiles/" + key;
+    }
+
+    /**
+     * Expands an extent to the tile grid, so every extent within the same
+     * tiles reads the same tiles and can share cached frames
+     *
+     * @param lon/lat extent
+     * @return extent aligned to tile edges
+     */
+    public static Envelope alignExtent(Envelope extent) {
+        return new Envelope(Math.floor(extent.getMinX() / TILE_DEGREES) * TILE_DEGREES,
+                Math.ceil(extent.getMaxX() / TILE_DEGREES) * TILE_DEGREES,
+                Math.floor(extent.getMinY() / TILE_DEGREES) * TILE_DEGREES,
+                Math.ceil(extent.getMaxY() / TILE_DEGREES) * TILE_DEGREES);
+    }
+
+    /**
+     * Assigns shapes to tiles
+     *
+     * @param polygons of the shapes as WKT
+     * @return tiles keyed by tile key, in order of first use
+     */
+    public static Map<String, Tile> createTiles(String[] polygons) {
+        Map<String, Tile> tiles = new LinkedHashMap<String, Tile>();
+        WKTReader reader = new WKTReader();
+        for (int i = 0; i < polygons.length; i++) {
+            Envelope env = null;
+            try {
+                env = reader.read(polygons[i]).getEnvelopeInternal();
+            } catch (Exception e) {
+                env = null;
+            }
+            String key = INVALID_KEY;
+            if (env != null && !env.isNull()) {
+                Coordinate center = env.centre();
+                key = (int) Math.floor(center.x / TILE_DEGREES) + "_" + (int) Math.floor(center.y / TILE_DEGREES);
+            }
+            Tile tile = tiles.get(key);
+            if (tile == null) {
+                tile = new Tile(key);
+                tiles.put(key, tile);
+            }
+            tile.add(i, env);
+        }
+        return tiles;
+    }
+
+    /**
+     * Formats tile bounds for storage
+     *
+     * @param bounds, null or empty for a tile without valid shapes
+     * @return bounds as minLon,minLat,maxLon,maxLat or an empty string
+     */
+    public static String formatBounds(Envelope bounds) {
+        if (bounds == null || bounds.isNull()) {
+            return "";
+        }
+        return bounds.getMinX() + "," + bounds.getMinY() + "," + bounds.getMaxX() + "," + bounds.getMaxY();
+    }
+
+    /**
+     * Parses stored tile bounds
+     *
+     * @param stored bounds
+     * @return bounds, null for a tile without valid shapes
+     */
+    public static Envelope parseBounds(String bounds) {
+        if (bounds == null || bounds.isEmpty()) {
+            return null;
+        }
+        String[] values = bounds.split(",");
+        if (values.length != 4) {
+            return null;
+        }
+        return new Envelope(Double.parseDouble(values[0]), Double.parseDouble(values[2]),
+                Double.parseDouble(values[1]), Double.parseDouble(values[3]));
+    }
+
+    /**
+     * Shapes of a frame that belong to one tile
+     */
+    public static class Tile {
+
+        private final String key;
+
+        private final Envelope bounds = new Envelope();
+
+        private final List<Integer> indices = new ArrayList<Integer>();
+
+        private Tile(String key) {
+            this.key = key;
+        }
+
+        private void add(int index, Envelope env) {
+            indices.add(Integer.valueOf(index));
+            if (env != null) {
+                bounds.expandToInclude(env);
+            }
+        }
+
+        /**
+         * Retrieve tile key
+         *
+         * @return key
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Retrieve indices of the tile shapes within the frame
+         *
+         * @return shape indices in tile order
+         */
+        public List<Integer> getIndices() {
+            return indices;
+        }
+
+        /**
+         * Retrieve combined envelope of the tile shapes
+         *
+         * @return bounds, null envelope if no shape could be parsed
+         */
+        public Envelope getBounds() {
+            return bounds;
+        }
+
+        /**
+         * Extracts the values of the tile shapes from a frame data array
+         *
+         * @param frame data array
+         * @return tile data array
+         */
+        public String[] subset(String[] data) {
+            String[] subset = new String[indices.size()];
+            for (int i = 0; i < subset.length; i++) {
+                subset[i] = data[indices.get(i).intValue()];
+            }
+            return subset;
+        }
+    }
+
+}
@@ -0,0 +1,275 @@
+package edu.wisc.ssec.cimss.common.dataplugin.probsevere.request;
+
+import java.util.Date;
+
+import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Crossing Event
+ *
+ * Published on ProbSevereRecord.CROSSING_TOPIC when the probability of an
+ * object for one model moves across a configured threshold between
+ * consecutive frames of a source feed. An object that is new to the feed has
+ * an old probability of -1 and crosses every threshold it meets.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+@DynamicSerialize
+public class ProbSevereCrossingEvent {
+
+    @DynamicSerializeElement
+    private String source;
+
+    @DynamicSerializeElement
+    private String objectId;
+
+    @DynamicSerializeElement
+    private String modelType;
+
+    @DynamicSerializeElement
+    private int threshold;
+
+    @DynamicSerializeElement
+    private int oldProb;
+
+    @DynamicSerializeElement
+    private int newProb;
+
+    @DynamicSerializeElement
+    private float centroidLon;
+
+    @DynamicSerializeElement
+    private float centroidLat;
+
+    @DynamicSerializeElement
+    private Date refTime;
+
+    @DynamicSerializeElement
+    private Date previousRefTime;
+
+    @DynamicSerializeElement
+    private String dataURI;
+
+    /**
+     * Default empty constructor
+     */
+    public ProbSevereCrossingEvent() {
+    }
+
+    /**
+     * Determines if the probability rose across the threshold
+     *
+     * @return true for an upward crossing
+     */
+    public boolean isRising() {
+        return newProb > oldProb;
+    }
+
+    /**
+     * Retrieve source feed of the object
+     *
+     * @return source feed
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Set source feed of the object
+     *
+     * @param source feed
+     */
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Retrieve object ID
+     *
+     * @return object ID
+     */
+    public String getObjectId() {
+        return objectId;
+    }
+
+    /**
+     * Set object ID
+     *
+     * @param object ID
+     */
+    public void setObjectId(String objectId) {
+        this.objectId = objectId;
+    }
+
+    /**
+     * Retrieve model type whose probability crossed
+     *
+     * @return model type
+     */
+    public String getModelType() {
+        return modelType;
+    }
+
+    /**
+     * Set model type whose probability crossed
+     *
+     * @param model type
+     */
+    public void setModelType(String modelType) {
+        this.modelType = modelType;
+    }
+
+    /**
+     * Retrieve threshold that was crossed
+     *
+     * @return probability threshold
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Set threshold that was crossed
+     *
+     * @param probability threshold
+     */
+    public void setThreshold(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Retrieve probability in the previous frame
+     *
+     * @return previous probability, -1 if the object is new
+     */
+    public int getOldProb() {
+        return oldProb;
+    }
+
+    /**
+     * Set probability in the previous frame
+     *
+     * @param previous probability, -1 if the object is new
+     */
+    public void setOldProb(int oldProb) {
+        this.oldProb = oldProb;
+    }
+
+    /**
+     * Retrieve probability in the new frame
+     *
+     * @return new probability
+     */
+    public int getNewProb() {
+        return newProb;
+    }
+
+    /**
+     * Set probability in the new frame
+     *
+     * @param new probability
+     */
+    public void setNewProb(int newProb) {
+        this.newProb = newProb;
+    }
+
+    /**
+     * Retrieve centroid longitude of the object
+     *
+     * @return longitude
+     */
+    public float getCentroidLon() {
+        return centroidLon;
+    }
+
+    /**
+     * Set centroid longitude of the object
+     *
+     * @param longitude
+     */
+    public void setCentroidLon(float centroidLon) {
+        this.centroidLon = centroidLon;
+    }
+
+    /**
+     * Retrieve centroid latitude of the object
+     *
+     * @return latitude
+     */
+    public float getCentroidLat() {
+        return centroidLat;
+    }
+
+    /**
+     * Set centroid latitude of the object
+     *
+     * @param latitude
+     */
+    public void setCentroidLat(float centroidLat) {
+        this.centroidLat = centroidLat;
+    }
+
+    /**
+     * Retrieve valid time of the new frame
+     *
+     * @return valid time
+     */
+    public Date getRefTime() {
+        return refTime;
+    }
+
+    /**
+     * Set valid time of the new frame
+     *
+     * @param valid time
+     */
+    public void setRefTime(Date refTime) {
+        this.refTime = refTime;
+    }
+
+    /**
+     * Retrieve valid time of the previous frame
+     *
+     * @return valid time
+     */
+    public Date getPreviousRefTime() {
+        return previousRefTime;
+    }
+
+    /**
+     * Set valid time of the previous frame
+     *
+     * @param valid time
+     */
+    public void setPreviousRefTime(Date previousRefTime) {
+        this.previousRefTime = previousRefTime;
+    }
+
+    /**
+     * Retrieve data URI of the new frame
+     *
+     * @return data URI
+     */
+    public String getDataURI() {
+        return dataURI;
+    }
+
+    /**
+     * Set data URI of the new frame
+     *
+     * @param data URI
+     */
+    public void setDataURI(String dataURI) {
+        this.dataURI = dataURI;
+    }
+}
@@ -0,0 +1,182 @@
+package edu.wisc.ssec.cimss.common.dataplugin.probsevere.request;
+
+import java.util.Date;
+import java.util.Map;
+
+import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Feature
+ *
+ * A single ProbSevere object returned by a feature request, carrying its
+ * polygon, properties and model properties rebuilt from the stored record
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+@DynamicSerialize
+public class ProbSevereFeature {
+
+    @DynamicSerializeElement
+    private String dataURI;
+
+    @DynamicSerializeElement
+    private Date refTime;
+
+    @DynamicSerializeElement
+    private String objectId;
+
+    @DynamicSerializeElement
+    private String polygon;
+
+    @DynamicSerializeElement
+    private Map<String, String> properties;
+
+    @DynamicSerializeElement
+    private Map<String, Integer> probabilities;
+
+    @DynamicSerializeElement
+    private Map<String, Map<String, String>> modelProperties;
+
+    /**
+     * Default empty constructor
+     */
+    public ProbSevereFeature() {
+    }
+
+    /**
+     * Retrieve data URI of the record holding this feature
+     *
+     * @return data URI
+     */
+    public String getDataURI() {
+        return dataURI;
+    }
+
+    /**
+     * Set data URI of the record holding this feature
+     *
+     * @param data URI
+     */
+    public void setDataURI(String dataURI) {
+        this.dataURI = dataURI;
+    }
+
+    /**
+     * Retrieve valid time of this feature
+     *
+     * @return valid time
+     */
+    public Date getRefTime() {
+        return refTime;
+    }
+
+    /**
+     * Set valid time of this feature
+     *
+     * @param valid time
+     */
+    public void setRefTime(Date refTime) {
+        this.refTime = refTime;
+    }
+
+    /**
+     * Retrieve object ID of this feature
+     *
+     * @return object ID
+     */
+    public String getObjectId() {
+        return objectId;
+    }
+
+    /**
+     * Set object ID of this feature
+     *
+     * @param object ID
+     */
+    public void setObjectId(String objectId) {
+        this.objectId = objectId;
+    }
+
+    /**
+     * Retrieve polygon of this feature
+     *
+     * @return Well Known Text polygon
+     */
+    public String getPolygon() {
+        return polygon;
+    }
+
+    /**
+     * Set polygon of this feature
+     *
+     * @param Well Known Text polygon
+     */
+    public void setPolygon(String polygon) {
+        this.polygon = polygon;
+    }
+
+    /**
+     * Retrieve properties of this feature
+     *
+     * @return feature properties
+     */
+    public Map<String, String> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Set properties of this feature
+     *
+     * @param feature properties
+     */
+    public void setProperties(Map<String, String> properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Retrieve probability of each model type
+     *
+     * @return probabilities keyed by model type
+     */
+    public Map<String, Integer> getProbabilities() {
+        return probabilities;
+    }
+
+    /**
+     * Set probability of each model type
+     *
+     * @param probabilities keyed by model type
+     */
+    public void setProbabilities(Map<String, Integer> probabilities) {
+        this.probabilities = probabilities;
+    }
+
+    /**
+     * Retrieve properties of each model type
+     *
+     * @return model properties keyed by model type
+     */
+    public Map<String, Map<String, String>> getModelProperties() {
+        return modelProperties;
+    }
+
+    /**
+     * Set properties of each model type
+     *
+     * @param model properties keyed by model type
+     */
+    public void setModelProperties(Map<String, Map<String, String>> modelProperties) {
+        this.modelProperties = modelProperties;
+    }
+
+}
@@ -0,0 +1,313 @@
+package edu.wisc.ssec.cimss.common.dataplugin.probsevere.request;
+
+import java.util.Date;
+
+import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
+import com.raytheon.uf.common.serialization.comm.IServerRequest;
+import com.vividsolutions.jts.geom.Envelope;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Feature Request
+ *
+ * Requests the individual ProbSevere features that intersect a lat/lon
+ * bounding box or contain a point, for a single valid time, a range of valid
+ * times or, if no time is given, the latest valid time. Features can be
+ * limited to those at or above a probability for a model type, or for any
+ * model type if none is given. Features are searched in the default source
+ * unless another source, such as a derived swath source, is given. The
+ * response is a List of ProbSevereFeature.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Added source.
+ * Oct 19, 2026             cimss       Search the default source unless a
+ *                                      source is given.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+@DynamicSerialize
+public class ProbSevereFeatureRequest implements IServerRequest {
+
+    @DynamicSerializeElement
+    private String source = ProbSevereRecord.DEFAULT_SOURCE;
+
+    @DynamicSerializeElement
+    private Date refTime;
+
+    @DynamicSerializeElement
+    private Date startTime;
+
+    @DynamicSerializeElement
+    private Date endTime;
+
+    @DynamicSerializeElement
+    private double minLon = -180.0;
+
+    @DynamicSerializeElement
+    private double minLat = -90.0;
+
+    @DynamicSerializeElement
+    private double maxLon = 180.0;
+
+    @DynamicSerializeElement
+    private double maxLat = 90.0;
+
+    @DynamicSerializeElement
+    private boolean pointQuery = false;
+
+    @DynamicSerializeElement
+    private String modelType;
+
+    @DynamicSerializeElement
+    private int minProbability = 0;
+
+    /**
+     * Default empty constructor
+     */
+    public ProbSevereFeatureRequest() {
+    }
+
+    /**
+     * Limits the request to features intersecting a bounding box
+     *
+     * @param minimum longitude
+     * @param minimum latitude
+     * @param maximum longitude
+     * @param maximum latitude
+     */
+    public void setBoundingBox(double minLon, double minLat, double maxLon, double maxLat) {
+        this.minLon = minLon;
+        this.minLat = minLat;
+        this.maxLon = maxLon;
+        this.maxLat = maxLat;
+        this.pointQuery = false;
+    }
+
+    /**
+     * Limits the request to features containing a point
+     *
+     * @param longitude
+     * @param latitude
+     */
+    public void setPoint(double lon, double lat) {
+        setBoundingBox(lon, lat, lon, lat);
+        this.pointQuery = true;
+    }
+
+    /**
+     * Creates the lat/lon envelope of this request
+     *
+     * @return request envelope
+     */
+    public Envelope createEnvelope() {
+        return new Envelope(minLon, maxLon, minLat, maxLat);
+    }
+
+    /**
+     * Retrieve source to search
+     *
+     * @return source, null for the default source
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Set source to search
+     *
+     * @param source, null for the default source
+     */
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Retrieve single valid time to request
+     *
+     * @return single valid time to request
+     */
+    public Date getRefTime() {
+        return refTime;
+    }
+
+    /**
+     * Set single valid time to request
+     *
+     * @param single valid time to request
+     */
+    public void setRefTime(Date refTime) {
+        this.refTime = refTime;
+    }
+
+    /**
+     * Retrieve start of the valid time range to request
+     *
+     * @return start of the valid time range to request
+     */
+    public Date getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Set start of the valid time range to request
+     *
+     * @param start of the valid time range to request
+     */
+    public void setStartTime(Date startTime) {
+        this.startTime = startTime;
+    }
+
+    /**
+     * Retrieve end of the valid time range to request
+     *
+     * @return end of the valid time range to request
+     */
+    public Date getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * Set end of the valid time range to request
+     *
+     * @param end of the valid time range to request
+     */
+    public void setEndTime(Date endTime) {
+        this.endTime = endTime;
+    }
+
+    /**
+     * Retrieve minimum longitude of the request box
+     *
+     * @return minimum longitude of the request box
+     */
+    public double getMinLon() {
+        return minLon;
+    }
+
+    /**
+     * Set minimum longitude of the request box
+     *
+     * @param minimum longitude of the request box
+     */
+    public void setMinLon(double minLon) {
+        this.minLon = minLon;
+    }
+
+    /**
+     * Retrieve minimum latitude of the request box
+     *
+     * @return minimum latitude of the request box
+     */
+    public double getMinLat() {
+        return minLat;
+    }
+
+    /**
+     * Set minimum latitude of the request box
+     *
+     * @param minimum latitude of the request box
+     */
+    public void setMinLat(double minLat) {
+        this.minLat = minLat;
+    }
+
+    /**
+     * Retrieve maximum longitude of the request box
+     *
+     * @return maximum longitude of the request box
+     */
+    public double getMaxLon() {
+        return maxLon;
+    }
+
+    /**
+     * Set maximum longitude of the request box
+     *
+     * @param maximum longitude of the request box
+     */
+    public void setMaxLon(double maxLon) {
+        this.maxLon = maxLon;
+    }
+
+    /**
+     * Retrieve maximum latitude of the request box
+     *
+     * @return maximum latitude of the request box
+     */
+    public double getMaxLat() {
+        return maxLat;
+    }
+
+    /**
+     * Set maximum latitude of the request box
+     *
+     * @param maximum latitude of the request box
+     */
+    public void setMaxLat(double maxLat) {
+        this.maxLat = maxLat;
+    }
+
+    /**
+     * Retrieve whether features must contain the request point
+     *
+     * @return whether features must contain the request point
+     */
+    public boolean isPointQuery() {
+        return pointQuery;
+    }
+
+    /**
+     * Set whether features must contain the request point
+     *
+     * @param whether features must contain the request point
+     */
+    public void setPointQuery(boolean pointQuery) {
+        this.pointQuery = pointQuery;
+    }
+
+    /**
+     * Retrieve model type the probability limit applies to
+     *
+     * @return model type the probability limit applies to
+     */
+    public String getModelType() {
+        return modelType;
+    }
+
+    /**
+     * Set model type the probability limit applies to
+     *
+     * @param model type the probability limit applies to
+     */
+    public void setModelType(String modelType) {
+        this.modelType = modelType;
+    }
+
+    /**
+     * Retrieve minimum probability of returned features
+     *
+     * @return minimum probability of returned features
+     */
+    public int getMinProbability() {
+        return minProbability;
+    }
+
+    /**
+     * Set minimum probability of returned features
+     *
+     * @param minimum probability of returned features
+     */
+    public void setMinProbability(int minProbability) {
+        this.minProbability = minProbability;
+    }
+
+}
@@ -0,0 +1,201 @@
+package edu.wisc.ssec.cimss.common.dataplugin.probsevere.request;
+
+import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
+import com.raytheon.uf.common.serialization.comm.IServerRequest;
+import com.vividsolutions.jts.geom.Envelope;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Record Request
+ *
+ * Requests the complete data of a ProbSevere record. The response is a
+ * ProbSevereRecord carrying its data as a packed feature block, or null if
+ * the record could not be found. If an extent is set, only the stored tiles
+ * that intersect it are returned.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Added optional extent.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+@DynamicSerialize
+public class ProbSevereRecordRequest implements IServerRequest {
+
+    @DynamicSerializeElement
+    private String dataURI;
+
+    @DynamicSerializeElement
+    private boolean extentSet = false;
+
+    @DynamicSerializeElement
+    private double minLon = -180.0;
+
+    @DynamicSerializeElement
+    private double minLat = -90.0;
+
+    @DynamicSerializeElement
+    private double maxLon = 180.0;
+
+    @DynamicSerializeElement
+    private double maxLat = 90.0;
+
+    /**
+     * Default empty constructor
+     */
+    public ProbSevereRecordRequest() {
+    }
+
+    /**
+     * Constructs a request for a single record
+     *
+     * @param data URI of the record
+     */
+    public ProbSevereRecordRequest(String dataURI) {
+        this.dataURI = dataURI;
+    }
+
+    /**
+     * Retrieve data URI of the requested record
+     *
+     * @return data URI
+     */
+    public String getDataURI() {
+        return dataURI;
+    }
+
+    /**
+     * Set data URI of the requested record
+     *
+     * @param data URI
+     */
+    public void setDataURI(String dataURI) {
+        this.dataURI = dataURI;
+    }
+
+    /**
+     * Limits the request to the stored tiles that intersect an extent
+     *
+     * @param extent in lon/lat, null for the whole record
+     */
+    public void setExtent(Envelope extent) {
+        if (extent == null || extent.isNull()) {
+            extentSet = false;
+            return;
+        }
+        minLon = extent.getMinX();
+        minLat = extent.getMinY();
+        maxLon = extent.getMaxX();
+        maxLat = extent.getMaxY();
+        extentSet = true;
+    }
+
+    /**
+     * Creates the requested extent
+     *
+     * @return extent in lon/lat, null if the whole record was requested
+     */
+    public Envelope createExtent() {
+        if (!extentSet) {
+            return null;
+        }
+        return new Envelope(minLon, maxLon, minLat, maxLat);
+    }
+
+    /**
+     * Retrieve whether an extent was set
+     *
+     * @return true if the request is limited to an extent
+     */
+    public boolean isExtentSet() {
+        return extentSet;
+    }
+
+    /**
+     * Set whether an extent was set
+     *
+     * @param true to limit the request to an extent
+     */
+    public void setExtentSet(boolean extentSet) {
+        this.extentSet = extentSet;
+    }
+
+    /**
+     * Retrieve minimum longitude of the extent
+     *
+     * @return minimum longitude
+     */
+    public double getMinLon() {
+        return minLon;
+    }
+
+    /**
+     * Set minimum longitude of the extent
+     *
+     * @param minimum longitude
+     */
+    public void setMinLon(double minLon) {
+        this.minLon = minLon;
+    }
+
+    /**
+     * Retrieve minimum latitude of the extent
+     *
+     * @return minimum latitude
+     */
+    public double getMinLat() {
+        return minLat;
+    }
+
+    /**
+     * Set minimum latitude of the extent
+     *
+     * @param minimum latitude
+     */
+    public void setMinLat(double minLat) {
+        this.minLat = minLat;
+    }
+
+    /**
+     * Retrieve maximum longitude of the extent
+     *
+     * @return maximum longitude
+     */
+    public double getMaxLon() {
+        return maxLon;
+    }
+
+    /**
+     * Set maximum longitude of the extent
+     *
+     * @param maximum longitude
+     */
+    public void setMaxLon(double maxLon) {
+        this.maxLon = maxLon;
+    }
+
+    /**
+     * Retrieve maximum latitude of the extent
+     *
+     * @return maximum latitude
+     */
+    public double getMaxLat() {
+        return maxLat;
+    }
+
+    /**
+     * Set maximum latitude of the extent
+     *
+     * @param maximum latitude
+     */
+    public void setMaxLat(double maxLat) {
+        this.maxLat = maxLat;
+    }
+
+}
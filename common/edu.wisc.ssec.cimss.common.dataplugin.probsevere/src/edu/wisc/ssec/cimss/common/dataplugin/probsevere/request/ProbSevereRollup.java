@@ -0,0 +1,159 @@
+package edu.wisc.ssec.cimss.common.dataplugin.probsevere.request;
+
+import java.util.Date;
+
+import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Rollup
+ *
+ * Count of the objects of one frame at or above a probability threshold of
+ * one model within one CWA, returned by a rollup request
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+@DynamicSerialize
+public class ProbSevereRollup {
+
+    @DynamicSerializeElement
+    private String source;
+
+    @DynamicSerializeElement
+    private Date refTime;
+
+    @DynamicSerializeElement
+    private String cwa;
+
+    @DynamicSerializeElement
+    private String modelType;
+
+    @DynamicSerializeElement
+    private int threshold;
+
+    @DynamicSerializeElement
+    private int objectCount;
+
+    /**
+     * Default empty constructor
+     */
+    public ProbSevereRollup() {
+    }
+
+    /**
+     * Retrieve source feed of the rollup
+     *
+     * @return source
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Set source feed of the rollup
+     *
+     * @param source
+     */
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Retrieve valid time of the rolled up frame
+     *
+     * @return valid time
+     */
+    public Date getRefTime() {
+        return refTime;
+    }
+
+    /**
+     * Set valid time of the rolled up frame
+     *
+     * @param valid time
+     */
+    public void setRefTime(Date refTime) {
+        this.refTime = refTime;
+    }
+
+    /**
+     * Retrieve CWA of the rollup
+     *
+     * @return CWA ID, ALL for the whole frame
+     */
+    public String getCwa() {
+        return cwa;
+    }
+
+    /**
+     * Set CWA of the rollup
+     *
+     * @param CWA ID, ALL for the whole frame
+     */
+    public void setCwa(String cwa) {
+        this.cwa = cwa;
+    }
+
+    /**
+     * Retrieve model type of the rollup
+     *
+     * @return model type
+     */
+    public String getModelType() {
+        return modelType;
+    }
+
+    /**
+     * Set model type of the rollup
+     *
+     * @param model type
+     */
+    public void setModelType(String modelType) {
+        this.modelType = modelType;
+    }
+
+    /**
+     * Retrieve probability threshold of the rollup
+     *
+     * @return probability threshold
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Set probability threshold of the rollup
+     *
+     * @param probability threshold
+     */
+    public void setThreshold(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Retrieve number of objects at or above the threshold
+     *
+     * @return object count
+     */
+    public int getObjectCount() {
+        return objectCount;
+    }
+
+    /**
+     * Set number of objects at or above the threshold
+     *
+     * @param object count
+     */
+    public void setObjectCount(int objectCount) {
+        this.objectCount = objectCount;
+    }
+}
@@ -0,0 +1,132 @@
+package edu.wisc.ssec.cimss.common.dataplugin.probsevere.request;
+
+import java.util.Date;
+
+import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
+import com.raytheon.uf.common.serialization.comm.IServerRequest;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Rollup Request
+ *
+ * Requests the per-CWA object counts of the frames of a source within a
+ * time range, or of its newest frame when no start time is set. The
+ * response is a list of ProbSevereRollup ordered by valid time.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+@DynamicSerialize
+public class ProbSevereRollupRequest implements IServerRequest {
+
+    @DynamicSerializeElement
+    private String source = ProbSevereRecord.DEFAULT_SOURCE;
+
+    @DynamicSerializeElement
+    private String cwa;
+
+    @DynamicSerializeElement
+    private Date startTime;
+
+    @DynamicSerializeElement
+    private Date endTime;
+
+    /**
+     * Default empty constructor
+     */
+    public ProbSevereRollupRequest() {
+    }
+
+    /**
+     * Constructs a request for the newest rollups of a CWA
+     *
+     * @param source of the rollups
+     * @param CWA ID, null for every CWA
+     */
+    public ProbSevereRollupRequest(String source, String cwa) {
+        this.source = source;
+        this.cwa = cwa;
+    }
+
+    /**
+     * Retrieve source of the requested rollups
+     *
+     * @return source
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Set source of the requested rollups
+     *
+     * @param source
+     */
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Retrieve CWA of the requested rollups
+     *
+     * @return CWA ID, null for every CWA
+     */
+    public String getCwa() {
+        return cwa;
+    }
+
+    /**
+     * Set CWA of the requested rollups
+     *
+     * @param CWA ID, null for every CWA
+     */
+    public void setCwa(String cwa) {
+        this.cwa = cwa;
+    }
+
+    /**
+     * Retrieve earliest valid time of the requested rollups
+     *
+     * @return valid time, null for the newest frame only
+     */
+    public Date getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Set earliest valid time of the requested rollups
+     *
+     * @param valid time, null for the newest frame only
+     */
+    public void setStartTime(Date startTime) {
+        this.startTime = startTime;
+    }
+
+    /**
+     * Retrieve latest valid time of the requested rollups
+     *
+     * @return valid time, null for no limit
+     */
+    public Date getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * Set latest valid time of the requested rollups
+     *
+     * @param valid time, null for no limit
+     */
+    public void setEndTime(Date endTime) {
+        this.endTime = endTime;
+    }
+}
@@ -0,0 +1,369 @@
+package edu.wisc.ssec.cimss.common.dataplugin.probsevere.request;
+
+import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Track
+ *
+ * Probability history of a single ProbSevere object with its lifetime
+ * summary. Track point arrays are ordered by valid time.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Added source and frame count.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+@DynamicSerialize
+public class ProbSevereTrack {
+
+    @DynamicSerializeElement
+    private String source;
+
+    @DynamicSerializeElement
+    private String objectId;
+
+    @DynamicSerializeElement
+    private long firstTime;
+
+    @DynamicSerializeElement
+    private long lastTime;
+
+    @DynamicSerializeElement
+    private int frameCount;
+
+    @DynamicSerializeElement
+    private int maxSevereProb;
+
+    @DynamicSerializeElement
+    private int maxTorProb;
+
+    @DynamicSerializeElement
+    private int maxHailProb;
+
+    @DynamicSerializeElement
+    private int maxWindProb;
+
+    @DynamicSerializeElement
+    private long[] times;
+
+    @DynamicSerializeElement
+    private int[] severeProbs;
+
+    @DynamicSerializeElement
+    private int[] torProbs;
+
+    @DynamicSerializeElement
+    private int[] hailProbs;
+
+    @DynamicSerializeElement
+    private int[] windProbs;
+
+    @DynamicSerializeElement
+    private float[] centroidLons;
+
+    @DynamicSerializeElement
+    private float[] centroidLats;
+
+    /**
+     * Default empty constructor
+     */
+    public ProbSevereTrack() {
+    }
+
+    /**
+     * Retrieve source of this track
+     *
+     * @return source
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Set source of this track
+     *
+     * @param source
+     */
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Retrieve object ID of this track
+     *
+     * @return object ID
+     */
+    public String getObjectId() {
+        return objectId;
+    }
+
+    /**
+     * Set object ID of this track
+     *
+     * @param object ID
+     */
+    public void setObjectId(String objectId) {
+        this.objectId = objectId;
+    }
+
+    /**
+     * Retrieve first valid time of this track
+     *
+     * @return first valid time in milliseconds
+     */
+    public long getFirstTime() {
+        return firstTime;
+    }
+
+    /**
+     * Set first valid time of this track
+     *
+     * @param first valid time in milliseconds
+     */
+    public void setFirstTime(long firstTime) {
+        this.firstTime = firstTime;
+    }
+
+    /**
+     * Retrieve last valid time of this track
+     *
+     * @return last valid time in milliseconds
+     */
+    public long getLastTime() {
+        return lastTime;
+    }
+
+    /**
+     * Set last valid time of this track
+     *
+     * @param last valid time in milliseconds
+     */
+    public void setLastTime(long lastTime) {
+        this.lastTime = lastTime;
+    }
+
+    /**
+     * Retrieve number of frames the object appeared in
+     *
+     * @return frame count
+     */
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Set number of frames the object appeared in
+     *
+     * @param frame count
+     */
+    public void setFrameCount(int frameCount) {
+        this.frameCount = frameCount;
+    }
+
+    /**
+     * Retrieve lifetime maximum ProbSevere probability
+     *
+     * @return probability
+     */
+    public int getMaxSevereProb() {
+        return maxSevereProb;
+    }
+
+    /**
+     * Set lifetime maximum ProbSevere probability
+     *
+     * @param probability
+     */
+    public void setMaxSevereProb(int maxSevereProb) {
+        this.maxSevereProb = maxSevereProb;
+    }
+
+    /**
+     * Retrieve lifetime maximum ProbTor probability
+     *
+     * @return probability
+     */
+    public int getMaxTorProb() {
+        return maxTorProb;
+    }
+
+    /**
+     * Set lifetime maximum ProbTor probability
+     *
+     * @param probability
+     */
+    public void setMaxTorProb(int maxTorProb) {
+        this.maxTorProb = maxTorProb;
+    }
+
+    /**
+     * Retrieve lifetime maximum ProbHail probability
+     *
+     * @return probability
+     */
+    public int getMaxHailProb() {
+        return maxHailProb;
+    }
+
+    /**
+     * Set lifetime maximum ProbHail probability
+     *
+     * @param probability
+     */
+    public void setMaxHailProb(int maxHailProb) {
+        this.maxHailProb = maxHailProb;
+    }
+
+    /**
+     * Retrieve lifetime maximum ProbWind probability
+     *
+     * @return probability
+     */
+    public int getMaxWindProb() {
+        return maxWindProb;
+    }
+
+    /**
+     * Set lifetime maximum ProbWind probability
+     *
+     * @param probability
+     */
+    public void setMaxWindProb(int maxWindProb) {
+        this.maxWindProb = maxWindProb;
+    }
+
+    /**
+     * Retrieve valid time of each track point
+     *
+     * @return valid times in milliseconds
+     */
+    public long[] getTimes() {
+        return times;
+    }
+
+    /**
+     * Set valid time of each track point
+     *
+     * @param valid times in milliseconds
+     */
+    public void setTimes(long[] times) {
+        this.times = times;
+    }
+
+    /**
+     * Retrieve ProbSevere probability of each track point
+     *
+     * @return probabilities
+     */
+    public int[] getSevereProbs() {
+        return severeProbs;
+    }
+
+    /**
+     * Set ProbSevere probability of each track point
+     *
+     * @param probabilities
+     */
+    public void setSevereProbs(int[] severeProbs) {
+        this.severeProbs = severeProbs;
+    }
+
+    /**
+     * Retrieve ProbTor probability of each track point
+     *
+     * @return probabilities
+     */
+    public int[] getTorProbs() {
+        return torProbs;
+    }
+
+    /**
+     * Set ProbTor probability of each track point
+     *
+     * @param probabilities
+     */
+    public void setTorProbs(int[] torProbs) {
+        this.torProbs = torProbs;
+    }
+
+    /**
+     * Retrieve ProbHail probability of each track point
+     *
+     * @return probabilities
+     */
+    public int[] getHailProbs() {
+        return hailProbs;
+    }
+
+    /**
+     * Set ProbHail probability of each track point
+     *
+     * @param probabilities
+     */
+    public void setHailProbs(int[] hailProbs) {
+        this.hailProbs = hailProbs;
+    }
+
+    /**
+     * Retrieve ProbWind probability of each track point
+     *
+     * @return probabilities
+     */
+    public int[] getWindProbs() {
+        return windProbs;
+    }
+
+    /**
+     * Set ProbWind probability of each track point
+     *
+     * @param probabilities
+     */
+    public void setWindProbs(int[] windProbs) {
+        this.windProbs = windProbs;
+    }
+
+    /**
+     * Retrieve centroid longitude of each track point
+     *
+     * @return centroid longitudes
+     */
+    public float[] getCentroidLons() {
+        return centroidLons;
+    }
+
+    /**
+     * Set centroid longitude of each track point
+     *
+     * @param centroid longitudes
+     */
+    public void setCentroidLons(float[] centroidLons) {
+        this.centroidLons = centroidLons;
+    }
+
+    /**
+     * Retrieve centroid latitude of each track point
+     *
+     * @return centroid latitudes
+     */
+    public float[] getCentroidLats() {
+        return centroidLats;
+    }
+
+    /**
+     * Set centroid latitude of each track point
+     *
+     * @param centroid latitudes
+     */
+    public void setCentroidLats(float[] centroidLats) {
+        this.centroidLats = centroidLats;
+    }
+
+}
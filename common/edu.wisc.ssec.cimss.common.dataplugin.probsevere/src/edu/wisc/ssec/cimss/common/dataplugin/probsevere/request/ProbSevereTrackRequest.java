@@ -0,0 +1,98 @@
+package edu.wisc.ssec.cimss.common.dataplugin.probsevere.request;
+
+import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
+import com.raytheon.uf.common.serialization.comm.IServerRequest;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Track Request
+ *
+ * Requests the probability history of a single ProbSevere object. The
+ * response is a ProbSevereTrack, or null if the object is not known.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Added source.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+@DynamicSerialize
+public class ProbSevereTrackRequest implements IServerRequest {
+
+    @DynamicSerializeElement
+    private String source = ProbSevereRecord.DEFAULT_SOURCE;
+
+    @DynamicSerializeElement
+    private String objectId;
+
+    /**
+     * Default empty constructor
+     */
+    public ProbSevereTrackRequest() {
+    }
+
+    /**
+     * Constructs a request for the track of an object
+     *
+     * @param object ID
+     */
+    public ProbSevereTrackRequest(String objectId) {
+        this.objectId = objectId;
+    }
+
+    /**
+     * Constructs a request for the track of an object of a source
+     *
+     * @param source of the object
+     * @param object ID
+     */
+    public ProbSevereTrackRequest(String source, String objectId) {
+        this.source = source;
+        this.objectId = objectId;
+    }
+
+    /**
+     * Retrieve source of the requested track
+     *
+     * @return source
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Set source of the requested track
+     *
+     * @param source
+     */
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Retrieve object ID of the requested track
+     *
+     * @return object ID
+     */
+    public String getObjectId() {
+        return objectId;
+    }
+
+    /**
+     * Set object ID of the requested track
+     *
+     * @param object ID
+     */
+    public void setObjectId(String objectId) {
+        this.objectId = objectId;
+    }
+
+}
@@ -0,0 +1,41 @@
+#! /bin/bash
+
+# Creates the 'probsevere_feature' table, sequence and indexes that hold one
+# row per ProbSevere object. Rows are removed along with their parent
+# 'probsevere' record.
+#
+# Date: October 19, 2026
+
+psql=/awips2/psql/bin/psql
+
+echo 'INFO: Creating probsevere_feature table, sequence and indexes.'
+
+${psql} -d metadata -U awipsadmin -Atc "
+    CREATE SEQUENCE IF NOT EXISTS probsevere_featureseq INCREMENT 1 START 1;
+    CREATE TABLE IF NOT EXISTS probsevere_feature (
+        id integer NOT NULL PRIMARY KEY,
+        parentid integer NOT NULL REFERENCES probsevere (id) ON DELETE CASCADE,
+        objectid character varying(32),
+        reftime timestamp without time zone NOT NULL,
+        minlon real,
+        minlat real,
+        maxlon real,
+        maxlat real,
+        centroidlon real,
+        centroidlat real,
+        severeprob integer,
+        torprob integer,
+        hailprob integer,
+        windprob integer
+    );
+    CREATE INDEX IF NOT EXISTS probsevere_feature_reftimeindex ON probsevere_feature (reftime);
+    CREATE INDEX IF NOT EXISTS probsevere_feature_objectidindex ON probsevere_feature (objectid, reftime);
+    CREATE INDEX IF NOT EXISTS probsevere_feature_parentindex ON probsevere_feature (parentid);
+    ALTER TABLE probsevere_feature ADD COLUMN IF NOT EXISTS centroidlon real;
+    ALTER TABLE probsevere_feature ADD COLUMN IF NOT EXISTS centroidlat real;
+    ALTER TABLE probsevere_feature OWNER TO awipsadmin;
+    "
+
+echo 'INFO: Done with psql table operations.'
+
+exit
@@ -0,0 +1,19 @@
+#! /bin/bash
+
+# Adds the 'cwa' column to the probsevere_feature table so features can be
+# looked up by the CWA holding them. Existing rows are left untagged.
+#
+# Date: October 19, 2026
+
+psql=/awips2/psql/bin/psql
+
+echo 'INFO: Adding cwa to the ProbSevere feature table.'
+
+${psql} -d metadata -U awipsadmin -Atc "
+    ALTER TABLE probsevere_feature ADD COLUMN IF NOT EXISTS cwa character varying(8);
+    CREATE INDEX IF NOT EXISTS probsevere_feature_cwaindex ON probsevere_feature (cwa, reftime);
+    "
+
+echo 'INFO: Done with psql table operations.'
+
+exit
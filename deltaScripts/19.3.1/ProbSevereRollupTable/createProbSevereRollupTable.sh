@@ -0,0 +1,32 @@
+#! /bin/bash
+
+# Creates the 'probsevere_rollup' table, sequence and indexes that hold the
+# per-CWA object counts of each ProbSevere frame.
+#
+# Date: October 19, 2026
+
+psql=/awips2/psql/bin/psql
+
+echo 'INFO: Creating probsevere_rollup table, sequence and indexes.'
+
+${psql} -d metadata -U awipsadmin -Atc "
+    CREATE SEQUENCE IF NOT EXISTS probsevere_rollupseq INCREMENT 1 START 1;
+    CREATE TABLE IF NOT EXISTS probsevere_rollup (
+        id integer NOT NULL PRIMARY KEY,
+        parentid integer NOT NULL REFERENCES probsevere (id) ON DELETE CASCADE,
+        source character varying(32) NOT NULL,
+        reftime timestamp without time zone NOT NULL,
+        cwa character varying(8) NOT NULL,
+        modeltype character varying(16) NOT NULL,
+        threshold integer,
+        objectcount integer
+    );
+    CREATE INDEX IF NOT EXISTS probsevere_rollup_cwaindex ON probsevere_rollup (source, cwa, reftime);
+    CREATE INDEX IF NOT EXISTS probsevere_rollup_reftimeindex ON probsevere_rollup (reftime);
+    CREATE INDEX IF NOT EXISTS probsevere_rollup_parentindex ON probsevere_rollup (parentid);
+    ALTER TABLE probsevere_rollup OWNER TO awipsadmin;
+    "
+
+echo 'INFO: Done with psql table operations.'
+
+exit
@@ -0,0 +1,66 @@
+#! /bin/bash
+
+# Adds the 'source' column to the probsevere, probsevere_feature and
+# probsevere_track tables so feeds valid at the same time can be stored
+# side by side. Existing rows belong to the 'conus' source. The old unique
+# constraint on reftime is replaced by one on reftime and source. Each table is
+# altered in its own transaction, and the feature and track tables are only
+# altered if they exist; createProbSevereTrackTable.sh creates the track
+# table with the source column.
+#
+# Date: October 19, 2026
+
+psql=/awips2/psql/bin/psql
+
+echo 'INFO: Adding source to ProbSevere tables.'
+
+${psql} -d metadata -U awipsadmin -Atc "
+    ALTER TABLE probsevere ADD COLUMN IF NOT EXISTS source character varying(32) NOT NULL DEFAULT 'conus';
+    DO \$\$
+    DECLARE
+        con_name name;
+    BEGIN
+        -- The old data URI constraint on reftime alone was named by hibernate
+        SELECT c.conname INTO con_name FROM pg_constraint c
+            JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attname = 'reftime'
+            WHERE c.conrelid = 'probsevere'::regclass AND c.contype = 'u' AND c.conkey = ARRAY[a.attnum];
+        IF con_name IS NOT NULL THEN
+            EXECUTE 'ALTER TABLE probsevere DROP CONSTRAINT ' || quote_ident(con_name);
+        END IF;
+    END
+    \$\$;
+    ALTER TABLE probsevere DROP CONSTRAINT IF EXISTS uk_probsevere_datauri_fields;
+    ALTER TABLE probsevere ADD CONSTRAINT uk_probsevere_datauri_fields UNIQUE (reftime, source);
+    ALTER TABLE probsevere ALTER COLUMN source DROP DEFAULT;
+    "
+
+${psql} -d metadata -U awipsadmin -Atc "
+    DO \$\$
+    BEGIN
+        IF to_regclass('probsevere_feature') IS NOT NULL THEN
+            ALTER TABLE probsevere_feature ADD COLUMN IF NOT EXISTS source character varying(32) NOT NULL DEFAULT 'conus';
+            ALTER TABLE probsevere_feature ALTER COLUMN source DROP DEFAULT;
+            DROP INDEX IF EXISTS probsevere_feature_objectidindex;
+            CREATE INDEX probsevere_feature_objectidindex ON probsevere_feature (source, objectid, reftime);
+        END IF;
+    END
+    \$\$;
+    "
+
+${psql} -d metadata -U awipsadmin -Atc "
+    DO \$\$
+    BEGIN
+        IF to_regclass('probsevere_track') IS NOT NULL THEN
+            ALTER TABLE probsevere_track ADD COLUMN IF NOT EXISTS source character varying(32) NOT NULL DEFAULT 'conus';
+            ALTER TABLE probsevere_track ALTER COLUMN source DROP DEFAULT;
+            ALTER TABLE probsevere_track DROP CONSTRAINT IF EXISTS probsevere_track_objectid_key;
+            ALTER TABLE probsevere_track DROP CONSTRAINT IF EXISTS uk_probsevere_track_source_objectid;
+            ALTER TABLE probsevere_track ADD CONSTRAINT uk_probsevere_track_source_objectid UNIQUE (source, objectid);
+        END IF;
+    END
+    \$\$;
+    "
+
+echo 'INFO: Done with psql table operations.'
+
+exit
@@ -0,0 +1,33 @@
+#! /bin/bash
+
+# Creates the 'probsevere_track' table, sequence and indexes that hold the
+# lifetime summary of each ProbSevere object.
+#
+# Date: October 19, 2026
+
+psql=/awips2/psql/bin/psql
+
+echo 'INFO: Creating probsevere_track table, sequence and indexes.'
+
+${psql} -d metadata -U awipsadmin -Atc "
+    CREATE SEQUENCE IF NOT EXISTS probsevere_trackseq INCREMENT 1 START 1;
+    CREATE TABLE IF NOT EXISTS probsevere_track (
+        id integer NOT NULL PRIMARY KEY,
+        source character varying(32) NOT NULL,
+        objectid character varying(32) NOT NULL,
+        firsttime timestamp without time zone NOT NULL,
+        lasttime timestamp without time zone NOT NULL,
+        framecount integer,
+        maxsevereprob integer,
+        maxtorprob integer,
+        maxhailprob integer,
+        maxwindprob integer,
+        CONSTRAINT uk_probsevere_track_source_objectid UNIQUE (source, objectid)
+    );
+    CREATE INDEX IF NOT EXISTS probsevere_track_lasttimeindex ON probsevere_track (lasttime);
+    ALTER TABLE probsevere_track OWNER TO awipsadmin;
+    "
+
+echo 'INFO: Done with psql table operations.'
+
+exit
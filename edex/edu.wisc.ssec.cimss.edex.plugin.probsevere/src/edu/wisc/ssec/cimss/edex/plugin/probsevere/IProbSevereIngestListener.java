@@ -0,0 +1,33 @@
+package edu.wisc.ssec.cimss.edex.plugin.probsevere;
+
+import java.util.List;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Ingest Listener
+ *
+ * Receives ProbSevere records once they have been persisted by the
+ * ProbSevere data access object
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public interface IProbSevereIngestListener {
+
+    /**
+     * Called after records have been stored to the data store and database
+     *
+     * @param complete records that were persisted
+     */
+    public void recordsPersisted(List<ProbSevereRecord> records);
+
+}
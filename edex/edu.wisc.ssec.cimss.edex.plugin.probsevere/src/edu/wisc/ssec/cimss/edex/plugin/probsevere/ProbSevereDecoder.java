@@ -12,6 +12,7 @@ import com.raytheon.uf.common.time.util.TimeUtil;
 import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
 import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereObject;
 import edu.wisc.ssec.cimss.edex.plugin.probsevere.impl.ProbSevereParser;
+import edu.wisc.ssec.cimss.edex.plugin.probsevere.impl.ProbSevereRegionTagger;
 
 /**
  * NOAA/CIMSS ProbSevere Model Data Decoder
@@ -28,6 +29,12 @@ import edu.wisc.ssec.cimss.edex.plugin.probsevere.impl.ProbSevereParser;
  *                                      package name and methods to use ProbSevere 
  *                                      instead of ConvectProb to better reflect the 
  *                                      product origin.
+ * Oct 19, 2026             cimss       Claim the record key across the cluster
+ *                                      before building and storing the record.
+ * Oct 19, 2026             cimss       Tag features with the IDs of the
+ *                                      regions they overlap.
+ * Oct 19, 2026             cimss       Release the claim if the record can not
+ *                                      be built.
  *
  * </pre
  *
@@ -59,26 +66,20 @@ public class ProbSevereDecoder {
 
         ProbSevereParser psParser = new ProbSevereParser(file);
         ProbSevereObject psObject = psParser.psObject;
-        ProbSevereRecord psRecord = null;
 
-        if (psObject.getFeatures().size() > 0) {
-
-            psRecord = new ProbSevereRecord(psObject);
-
-        } else {
+        if (psObject == null || psObject.getFeatures() == null || psObject.getFeatures().size() == 0) {
 
             return new PluginDataObject[0];
 
         }
 
         String validTime = psObject.getValidTime();
+        DataTime dataTime = null;
 
         if (validTime != null) {
-            Calendar c = TimeUtil.newCalendar();
-            psRecord.setInsertTime(c);
             try {
                 SimpleDateFormat dateFormat = new SimpleDateFormat("yyyyMMdd_HHmmss 'UTC'");
-                psRecord.setDataTime(new DataTime(dateFormat.parse(validTime)));
+                dataTime = new DataTime(dateFormat.parse(validTime));
             } catch (Exception e) {
                 statusHandler.error("Problem defining valid ProbSevere file time information using: " + validTime, e);
                 return new PluginDataObject[0];
@@ -87,8 +88,23 @@ public class ProbSevereDecoder {
             return new PluginDataObject[0];
         }
 
-        if (psRecord != null) {
+        // Another node may already be ingesting the same source and valid time
+        if (!ProbSevereIngestClaim.claim(psObject.getSource(), dataTime.getRefTime())) {
+            return new PluginDataObject[0];
+        }
+
+        ProbSevereRecord psRecord;
+        try {
+            ProbSevereRegionTagger.getInstance().tag(psObject);
+
+            psRecord = new ProbSevereRecord(psObject);
+            Calendar c = TimeUtil.newCalendar();
+            psRecord.setInsertTime(c);
+            psRecord.setDataTime(dataTime);
             psRecord.setTraceId(traceId);
+        } catch (Throwable t) {
+            ProbSevereIngestClaim.release(psObject.getSource(), dataTime.getRefTime());
+            throw t;
         }
 
         return new PluginDataObject[] { psRecord };
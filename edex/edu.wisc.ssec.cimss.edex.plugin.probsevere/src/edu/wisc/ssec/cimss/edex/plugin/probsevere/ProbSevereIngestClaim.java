@@ -0,0 +1,120 @@
+package edu.wisc.ssec.cimss.edex.plugin.probsevere;
+
+import java.util.Date;
+
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.common.time.util.TimeUtil;
+import com.raytheon.uf.edex.database.cluster.ClusterLockUtils;
+import com.raytheon.uf.edex.database.cluster.ClusterLockUtils.LockState;
+import com.raytheon.uf.edex.database.cluster.ClusterTask;
+import com.raytheon.uf.edex.database.plugin.PluginDao;
+import com.raytheon.uf.edex.database.plugin.PluginFactory;
+import com.raytheon.uf.edex.database.query.DatabaseQuery;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Ingest Claim
+ *
+ * Claims the key of a record (source and valid time) across the EDEX cluster
+ * before the record is built and stored, so only one ingest node does the
+ * work for a key. A claim is released once the record is persisted or its
+ * ingest fails, and its cluster task row is deleted. A claim left by a node
+ * that died expires after a timeout so the key can be ingested again.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Delete released claims and release
+ *                                      claims of failed ingests.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereIngestClaim {
+
+    private static final IUFStatusHandler statusHandler = UFStatus.getHandler(ProbSevereIngestClaim.class);
+
+    private static final String CLAIM_NAME = "probsevere-ingest";
+
+    // Time after which a claim that was never released may be taken over
+    private static final long CLAIM_TIMEOUT = Long.getLong("probsevere.ingest.claim.seconds", 300L)
+            * TimeUtil.MILLIS_PER_SECOND;
+
+    private ProbSevereIngestClaim() {
+    }
+
+    /**
+     * Claims the key of a record that is about to be ingested
+     *
+     * @param source of the record
+     * @param valid time of the record
+     * @return true if this node should ingest the record, false if another
+     *         node is ingesting it or it is already stored
+     */
+    public static boolean claim(String source, Date refTime) {
+        String details = getDetails(source, refTime);
+        ClusterTask task = ClusterLockUtils.lock(CLAIM_NAME, details, CLAIM_TIMEOUT, false);
+        if (task.getLockState() != LockState.SUCCESSFUL) {
+            statusHandler.info("Skipping ProbSevere " + details + ", another node is ingesting it");
+            return false;
+        }
+        try {
+            if (isStored(source, refTime)) {
+                statusHandler.info("Skipping ProbSevere " + details + ", it is already stored");
+                ClusterLockUtils.deleteLock(CLAIM_NAME, details);
+                return false;
+            }
+        } catch (Exception e) {
+            // Ingest anyway and let the unique key reject a duplicate
+            statusHandler.warn("Unable to check for stored ProbSevere " + details, e);
+        }
+        return true;
+    }
+
+    /**
+     * Releases the claim on the key of a persisted record
+     *
+     * @param persisted record
+     */
+    public static void release(ProbSevereRecord record) {
+        if (record.getDataTime() == null) {
+            return;
+        }
+        release(record.getSource(), record.getDataTime().getRefTime());
+    }
+
+    /**
+     * Releases the claim on a key, deleting its cluster task
+     *
+     * @param source of the record
+     * @param valid time of the record
+     */
+    public static void release(String source, Date refTime) {
+        String details = getDetails(source, refTime);
+        try {
+            ClusterLockUtils.deleteLock(CLAIM_NAME, details);
+        } catch (Exception e) {
+            statusHandler.warn("Unable to release ProbSevere ingest claim " + details, e);
+        }
+    }
+
+    private static boolean isStored(String source, Date refTime) throws Exception {
+        PluginDao dao = PluginFactory.getInstance().getPluginDao(ProbSevereRecord.PLUGIN_NAME);
+        DatabaseQuery query = new DatabaseQuery(ProbSevereRecord.class);
+        query.addQueryParam("source", source);
+        query.addQueryParam("dataTime.refTime", refTime);
+        query.setMaxResults(1);
+        return !dao.queryByCriteria(query).isEmpty();
+    }
+
+    private static String getDetails(String source, Date refTime) {
+        return source + ":" + TimeUtil.formatToSqlTimestamp(refTime);
+    }
+
+}
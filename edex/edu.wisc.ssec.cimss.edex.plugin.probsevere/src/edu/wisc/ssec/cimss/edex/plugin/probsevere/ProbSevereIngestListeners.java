@@ -0,0 +1,82 @@
+package edu.wisc.ssec.cimss.edex.plugin.probsevere;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Ingest Listener Registry
+ *
+ * Registry of stages that run after ProbSevere records are persisted. The
+ * data access object is created by the plugin factory rather than spring, so
+ * stages register here and the data access object notifies them.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereIngestListeners {
+
+    private static final IUFStatusHandler statusHandler = UFStatus.getHandler(ProbSevereIngestListeners.class);
+
+    private static final ProbSevereIngestListeners instance = new ProbSevereIngestListeners();
+
+    private final List<IProbSevereIngestListener> listeners = new CopyOnWriteArrayList<IProbSevereIngestListener>();
+
+    private ProbSevereIngestListeners() {
+    }
+
+    /**
+     * Retrieve the registry instance
+     *
+     * @return registry instance
+     */
+    public static ProbSevereIngestListeners getInstance() {
+        return instance;
+    }
+
+    /**
+     * Registers a stage to run after records are persisted
+     *
+     * @param listener to register
+     * @return this registry
+     */
+    public ProbSevereIngestListeners register(IProbSevereIngestListener listener) {
+        if (!listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+        return this;
+    }
+
+    /**
+     * Passes persisted records to each registered stage. A failing stage
+     * does not keep the remaining stages from running.
+     *
+     * @param records that were persisted
+     */
+    public void recordsPersisted(List<ProbSevereRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        for (IProbSevereIngestListener listener : listeners) {
+            try {
+                listener.recordsPersisted(records);
+            } catch (Exception e) {
+                statusHandler.error("Problem running ProbSevere ingest stage: "
+                        + listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+}
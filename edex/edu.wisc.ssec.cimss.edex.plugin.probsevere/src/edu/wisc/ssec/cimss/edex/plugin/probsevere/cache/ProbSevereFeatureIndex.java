@@ -0,0 +1,154 @@
+package edu.wisc.ssec.cimss.edex.plugin.probsevere.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.vividsolutions.jts.geom.Envelope;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.GeometryFactory;
+import com.vividsolutions.jts.geom.Point;
+import com.vividsolutions.jts.index.strtree.STRtree;
+import com.vividsolutions.jts.io.WKTReader;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Feature Index
+ *
+ * Envelope index of the shapes of a single ProbSevere frame along with the
+ * probability of each shape for each model type, so spatial and probability
+ * queries do not need to parse every shape of the frame
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Reject unknown model types.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereFeatureIndex {
+
+    private static final IUFStatusHandler statusHandler = UFStatus.getHandler(ProbSevereFeatureIndex.class);
+
+    // Approximate memory of a single parsed coordinate
+    private static final int COORDINATE_SIZE = 40;
+
+    private final Geometry[] geometries;
+
+    // Probabilities indexed by position in ProbSevereRecord.getModelTypes(), then shape
+    private final int[][] probabilities;
+
+    private final STRtree tree = new STRtree();
+
+    private long sizeInBytes = 0L;
+
+    /**
+     * Builds the index of a complete record
+     *
+     * @param complete ProbSevere record
+     */
+    public ProbSevereFeatureIndex(ProbSevereRecord record) {
+        String[] polygons = record.getPolygons();
+        geometries = new Geometry[polygons.length];
+        WKTReader reader = new WKTReader();
+        for (int i = 0; i < polygons.length; i++) {
+            try {
+                geometries[i] = reader.read(polygons[i]);
+                tree.insert(geometries[i].getEnvelopeInternal(), Integer.valueOf(i));
+                sizeInBytes += COORDINATE_SIZE * geometries[i].getNumPoints();
+            } catch (Exception e) {
+                statusHandler.error("Well Known Text reader could not read selected text: " + polygons[i], e);
+            }
+        }
+        tree.build();
+        probabilities = new int[ProbSevereRecord.getModelTypes().size()][];
+        for (int m = 0; m < ProbSevereRecord.getModelTypes().size(); m++) {
+            probabilities[m] = record.getModelProbabilities(ProbSevereRecord.getModelTypes().get(m));
+            sizeInBytes += 4L * polygons.length;
+        }
+    }
+
+    /**
+     * Finds the shapes intersecting an envelope, or containing its center
+     * for a point query, that meet a minimum probability
+     *
+     * @param lat/lon envelope to search
+     * @param true to only match shapes containing the envelope center
+     * @param model type the minimum applies to, null for any model type
+     * @param minimum probability
+     * @return matching shape indices in stored order
+     * @throws IllegalArgumentException if the model type is not known
+     */
+    public List<Integer> query(Envelope envelope, boolean pointQuery, String modelType, int minProbability) {
+        int modelIndex = -1;
+        if (modelType != null) {
+            for (int m = 0; m < ProbSevereRecord.getModelTypes().size(); m++) {
+                if (ProbSevereRecord.getModelTypes().get(m).equalsIgnoreCase(modelType)) {
+                    modelIndex = m;
+                }
+            }
+            if (modelIndex < 0) {
+                throw new IllegalArgumentException("Unknown ProbSevere model type: " + modelType);
+            }
+        }
+        GeometryFactory factory = new GeometryFactory();
+        Point point = null;
+        Geometry box = null;
+        if (pointQuery) {
+            point = factory.createPoint(envelope.centre());
+        } else {
+            box = factory.toGeometry(envelope);
+        }
+        List<Integer> matches = new ArrayList<Integer>();
+        for (Object item : tree.query(envelope)) {
+            int i = ((Integer) item).intValue();
+            if (getProbability(modelIndex, i) < minProbability) {
+                continue;
+            }
+            if (point != null ? geometries[i].contains(point) : geometries[i].intersects(box)) {
+                matches.add(Integer.valueOf(i));
+            }
+        }
+        Collections.sort(matches);
+        return matches;
+    }
+
+    /**
+     * Retrieve the parsed geometry of a shape
+     *
+     * @param shape index
+     * @return shape geometry, null if it could not be parsed
+     */
+    public Geometry getGeometry(int index) {
+        return geometries[index];
+    }
+
+    /**
+     * Retrieve estimated memory used by this index
+     *
+     * @return size in bytes
+     */
+    public long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    private int getProbability(int modelIndex, int shape) {
+        if (modelIndex >= 0) {
+            return probabilities[modelIndex][shape];
+        }
+        int max = 0;
+        for (int[] modelProbs : probabilities) {
+            max = Math.max(max, modelProbs[shape]);
+        }
+        return max;
+    }
+
+}
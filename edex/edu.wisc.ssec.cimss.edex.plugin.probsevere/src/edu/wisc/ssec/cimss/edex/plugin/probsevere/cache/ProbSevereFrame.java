@@ -0,0 +1,147 @@
+package edu.wisc.ssec.cimss.edex.plugin.probsevere.cache;
+
+import com.raytheon.uf.common.time.DataTime;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Cached Frame
+ *
+ * A complete ProbSevere frame held by the frame cache. The frame data is
+ * kept only as its packed feature block, along with the feature index used
+ * for queries and an estimate of the memory they occupy. Callers needing the
+ * data arrays unpack a record of their own.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Keep the frame data only in packed form.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereFrame {
+
+    private final String dataURI;
+
+    private final DataTime dataTime;
+
+    // Frame data, kept only in packed form
+    private final byte[] featureBlock;
+
+    private final String[] storageGroups;
+
+    private final int[] storageIndices;
+
+    private final ProbSevereFeatureIndex index;
+
+    private final long sizeInBytes;
+
+    /**
+     * Constructs a frame from a complete record, or from a record carrying
+     * the packed feature block of a complete record. The record is not kept.
+     *
+     * @param ProbSevere record
+     * @throws IllegalArgumentException if the record is not complete
+     */
+    public ProbSevereFrame(ProbSevereRecord record) {
+        byte[] block = record.getFeatureBlock();
+        if (block == null) {
+            block = record.createFeatureBlock();
+        }
+        if (block == null || !record.unpackFeatureBlock()) {
+            throw new IllegalArgumentException("Incomplete ProbSevere record: " + record.getDataURI());
+        }
+        this.dataURI = record.getDataURI();
+        this.dataTime = record.getDataTime();
+        this.featureBlock = block;
+        this.storageGroups = record.getStorageGroups();
+        this.storageIndices = record.getStorageIndices();
+        this.index = new ProbSevereFeatureIndex(record);
+        this.sizeInBytes = index.getSizeInBytes() + featureBlock.length;
+    }
+
+    /**
+     * Retrieve data URI of this frame
+     *
+     * @return data URI
+     */
+    public String getDataURI() {
+        return dataURI;
+    }
+
+    /**
+     * Retrieve data time of this frame
+     *
+     * @return data time
+     */
+    public DataTime getDataTime() {
+        return dataTime;
+    }
+
+    /**
+     * Unpacks a complete record of this frame. Each call returns a new
+     * record, so callers needing it more than once should keep it.
+     *
+     * @return complete ProbSevere record
+     */
+    public ProbSevereRecord getRecord() {
+        ProbSevereRecord record = new ProbSevereRecord(dataURI);
+        record.setFeatureBlock(featureBlock);
+        record.unpackFeatureBlock();
+        record.setStorageGroups(storageGroups);
+        record.setStorageIndices(storageIndices);
+        return record;
+    }
+
+    /**
+     * Retrieve packed feature block of this frame
+     *
+     * @return feature block
+     */
+    public byte[] getFeatureBlock() {
+        return featureBlock;
+    }
+
+    /**
+     * Retrieve data store groups holding the shapes of this frame
+     *
+     * @return groups, null if they are not known
+     */
+    public String[] getStorageGroups() {
+        return storageGroups;
+    }
+
+    /**
+     * Retrieve position of each shape within the datasets of the storage
+     * groups
+     *
+     * @return positions, null when the shapes are the datasets in order
+     */
+    public int[] getStorageIndices() {
+        return storageIndices;
+    }
+
+    /**
+     * Retrieve feature index of this frame
+     *
+     * @return feature index
+     */
+    public ProbSevereFeatureIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Retrieve estimated memory used by this frame
+     *
+     * @return size in bytes
+     */
+    public long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+}
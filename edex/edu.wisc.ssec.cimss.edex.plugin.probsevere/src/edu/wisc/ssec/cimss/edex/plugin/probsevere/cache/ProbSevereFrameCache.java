@@ -0,0 +1,344 @@
+package edu.wisc.ssec.cimss.edex.plugin.probsevere.cache;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import com.raytheon.uf.common.dataplugin.HDF5Util;
+import com.raytheon.uf.common.dataplugin.message.DataURINotificationMessage;
+import com.raytheon.uf.common.datastorage.DataStoreFactory;
+import com.raytheon.uf.common.datastorage.IDataStore;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Frame Cache
+ *
+ * In-memory cache of the newest complete ProbSevere frames. In the request
+ * JVM frames are read as soon as their data URI notification arrives, and
+ * any JVM reads through from the data store once on a miss, so many clients
+ * requesting the same new frame only cause a single data store read. The
+ * newest frames by data time are kept within both a frame count and a memory
+ * budget, set with the probsevere.cache.frames and probsevere.cache.megabytes
+ * system properties. Hits, misses and the cache size are logged every
+ * probsevere.cache.stats.lookups lookups and are available from the cache.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Added cached frame lookup.
+ * Oct 19, 2026             cimss       Fill from data URI notifications in the
+ *                                      request JVM instead of at ingest, and
+ *                                      report hits and misses.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereFrameCache {
+
+    private static final IUFStatusHandler statusHandler = UFStatus.getHandler(ProbSevereFrameCache.class);
+
+    private static final ProbSevereFrameCache instance = new ProbSevereFrameCache();
+
+    // Start of the data URIs of ProbSevere records
+    private static final String DATA_URI_PREFIX = "/" + ProbSevereRecord.PLUGIN_NAME + "/";
+
+    private int maxFrames = Integer.getInteger("probsevere.cache.frames", 12);
+
+    private long maxBytes = Long.getLong("probsevere.cache.megabytes", 64L) * 1024L * 1024L;
+
+    // Cached frames keyed by data URI
+    private final Map<String, ProbSevereFrame> frames = new HashMap<String, ProbSevereFrame>();
+
+    // Data store reads in progress keyed by data URI
+    private final ConcurrentHashMap<String, FutureTask<ProbSevereFrame>> loading = new ConcurrentHashMap<String, FutureTask<ProbSevereFrame>>();
+
+    private long totalBytes = 0L;
+
+    private long hits = 0L;
+
+    private long misses = 0L;
+
+    // Number of lookups between statistics log lines, 0 to not log them
+    private int statsLookups = Integer.getInteger("probsevere.cache.stats.lookups", 1000);
+
+    private ProbSevereFrameCache() {
+    }
+
+    /**
+     * Retrieve the cache instance
+     *
+     * @return cache instance
+     */
+    public static ProbSevereFrameCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Reads the ProbSevere frames of a data URI notification into the cache
+     * so the first client request for a new frame finds it cached
+     *
+     * @param notification of newly stored data
+     */
+    public void notificationArrived(DataURINotificationMessage message) {
+        for (String dataURI : message.getDataURIs()) {
+            if (!dataURI.startsWith(DATA_URI_PREFIX)) {
+                continue;
+            }
+            synchronized (frames) {
+                if (frames.containsKey(dataURI)) {
+                    continue;
+                }
+            }
+            try {
+                readFrame(dataURI);
+            } catch (Exception e) {
+                statusHandler.warn("Unable to cache new ProbSevere frame: " + dataURI, e);
+            }
+        }
+    }
+
+    /**
+     * Retrieves a frame, reading it from the data store if it is not cached.
+     * Concurrent requests for the same uncached frame share a single read.
+     *
+     * @param data URI of the record
+     * @return complete frame
+     * @throws Exception if the record could not be read
+     */
+    public ProbSevereFrame getFrame(final String dataURI) throws Exception {
+        synchronized (frames) {
+            ProbSevereFrame frame = frames.get(dataURI);
+            if (frame != null) {
+                hits++;
+            } else {
+                misses++;
+            }
+            logStats();
+            if (frame != null) {
+                return frame;
+            }
+        }
+        return readFrame(dataURI);
+    }
+
+    /**
+     * Reads a frame from the data store into the cache, sharing a read
+     * already in progress for the same frame
+     *
+     * @param data URI of the record
+     * @return complete frame
+     * @throws Exception if the record could not be read
+     */
+    private ProbSevereFrame readFrame(final String dataURI) throws Exception {
+        FutureTask<ProbSevereFrame> task = new FutureTask<ProbSevereFrame>(new Callable<ProbSevereFrame>() {
+            @Override
+            public ProbSevereFrame call() throws Exception {
+                ProbSevereFrame frame = load(dataURI);
+                put(frame);
+                return frame;
+            }
+        });
+        FutureTask<ProbSevereFrame> existing = loading.putIfAbsent(dataURI, task);
+        if (existing == null) {
+            existing = task;
+            try {
+                task.run();
+            } finally {
+                loading.remove(dataURI);
+            }
+        }
+
+        try {
+            return existing.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves a frame only if it is already cached
+     *
+     * @param data URI of the record
+     * @return cached frame, null if the frame is not cached
+     */
+    public ProbSevereFrame getCachedFrame(String dataURI) {
+        synchronized (frames) {
+            return frames.get(dataURI);
+        }
+    }
+
+    /**
+     * Adds a frame to the cache, evicting the oldest frames by data time
+     * until the cache is within its limits
+     *
+     * @param frame to add
+     */
+    public void put(ProbSevereFrame frame) {
+        String dataURI = frame.getDataURI();
+        synchronized (frames) {
+            ProbSevereFrame previous = frames.put(dataURI, frame);
+            if (previous != null) {
+                totalBytes -= previous.getSizeInBytes();
+            }
+            totalBytes += frame.getSizeInBytes();
+            while (!frames.isEmpty() && (frames.size() > maxFrames || totalBytes > maxBytes)) {
+                evictOldest();
+            }
+        }
+    }
+
+    /**
+     * Removes a frame from the cache
+     *
+     * @param data URI of the record
+     */
+    public void remove(String dataURI) {
+        synchronized (frames) {
+            ProbSevereFrame frame = frames.remove(dataURI);
+            if (frame != null) {
+                totalBytes -= frame.getSizeInBytes();
+            }
+        }
+    }
+
+    private void evictOldest() {
+        String oldestURI = null;
+        ProbSevereFrame oldest = null;
+        Iterator<Map.Entry<String, ProbSevereFrame>> iter = frames.entrySet().iterator();
+        while (iter.hasNext()) {
+            Map.Entry<String, ProbSevereFrame> entry = iter.next();
+            if (oldest == null || entry.getValue().getDataTime().compareTo(oldest.getDataTime()) < 0) {
+                oldestURI = entry.getKey();
+                oldest = entry.getValue();
+            }
+        }
+        frames.remove(oldestURI);
+        totalBytes -= oldest.getSizeInBytes();
+        statusHandler.debug("Evicted ProbSevere frame from cache: " + oldestURI);
+    }
+
+    private ProbSevereFrame load(String dataURI) throws Exception {
+        ProbSevereRecord record = new ProbSevereRecord(dataURI);
+        File f = HDF5Util.findHDF5Location(record);
+        IDataStore ds = DataStoreFactory.getDataStore(f);
+        record.retrieveFromDataStore(ds);
+        if (!record.isRecordComplete()) {
+            throw new IllegalStateException("Incomplete ProbSevere record in data store: " + dataURI);
+        }
+        return new ProbSevereFrame(record);
+    }
+
+    /**
+     * Logs the cache statistics once every statistics interval, the caller
+     * holding the frames lock
+     */
+    private void logStats() {
+        if (statsLookups > 0 && (hits + misses) % statsLookups == 0) {
+            statusHandler.info("ProbSevere frame cache: " + hits + " hits, " + misses + " misses, "
+                    + frames.size() + " frames, " + totalBytes / 1024L + " KB");
+        }
+    }
+
+    /**
+     * Retrieve number of lookups that found a cached frame
+     *
+     * @return hit count
+     */
+    public long getHits() {
+        synchronized (frames) {
+            return hits;
+        }
+    }
+
+    /**
+     * Retrieve number of lookups that did not find a cached frame
+     *
+     * @return miss count
+     */
+    public long getMisses() {
+        synchronized (frames) {
+            return misses;
+        }
+    }
+
+    /**
+     * Retrieve estimated memory used by the cached frames
+     *
+     * @return size in bytes
+     */
+    public long getTotalBytes() {
+        synchronized (frames) {
+            return totalBytes;
+        }
+    }
+
+    /**
+     * Retrieve number of lookups between statistics log lines
+     *
+     * @return lookup count, 0 if statistics are not logged
+     */
+    public int getStatsLookups() {
+        return statsLookups;
+    }
+
+    /**
+     * Set number of lookups between statistics log lines
+     *
+     * @param lookup count, 0 to not log statistics
+     */
+    public void setStatsLookups(int statsLookups) {
+        this.statsLookups = statsLookups;
+    }
+
+    /**
+     * Retrieve maximum number of cached frames
+     *
+     * @return frame count
+     */
+    public int getMaxFrames() {
+        return maxFrames;
+    }
+
+    /**
+     * Set maximum number of cached frames
+     *
+     * @param frame count
+     */
+    public void setMaxFrames(int maxFrames) {
+        this.maxFrames = maxFrames;
+    }
+
+    /**
+     * Retrieve memory budget of the cache
+     *
+     * @return budget in bytes
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Set memory budget of the cache
+     *
+     * @param budget in bytes
+     */
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+}
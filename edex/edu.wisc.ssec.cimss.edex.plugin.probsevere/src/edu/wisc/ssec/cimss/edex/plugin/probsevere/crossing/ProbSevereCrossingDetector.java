@@ -0,0 +1,331 @@
+package edu.wisc.ssec.cimss.edex.plugin.probsevere.crossing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.raytheon.uf.common.serialization.SerializationUtil;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.edex.core.EDEXUtil;
+import com.raytheon.uf.edex.database.plugin.PluginDao;
+import com.raytheon.uf.edex.database.plugin.PluginFactory;
+import com.raytheon.uf.edex.database.query.DatabaseQuery;
+import com.vividsolutions.jts.geom.Point;
+import com.vividsolutions.jts.io.WKTReader;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.request.ProbSevereCrossingEvent;
+import edu.wisc.ssec.cimss.edex.plugin.probsevere.IProbSevereIngestListener;
+import edu.wisc.ssec.cimss.edex.plugin.probsevere.cache.ProbSevereFrameCache;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Crossing Detector
+ *
+ * Matches the objects of each new frame against the previous frame of the
+ * same source feed by ID and publishes an event for every object and model
+ * whose probability moved across one of the configured thresholds, so
+ * clients do not have to compare whole frames themselves. Only the highest
+ * threshold crossed on the way up, or the lowest on the way down, is
+ * reported for each object and model. The previous frame is found among the
+ * stored frames of the source each time, since frames of a source may be
+ * ingested by any node of the cluster. The probabilities of the last frame
+ * handled are kept so they are not read again when it is the previous frame.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Find the previous frame among the stored
+ *                                      frames of the source, without locking.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereCrossingDetector implements IProbSevereIngestListener {
+
+    private static final IUFStatusHandler statusHandler = UFStatus.getHandler(ProbSevereCrossingDetector.class);
+
+    private boolean enabled = Boolean.parseBoolean(System.getProperty("probsevere.crossing.enabled", "true"));
+
+    private int[] thresholds = parseThresholds(System.getProperty("probsevere.crossing.thresholds", "30,50,70,90"));
+
+    private String topicUri = "jms-generic:topic:" + ProbSevereRecord.CROSSING_TOPIC + "?timeToLive=60000";
+
+    // Object probabilities of the last frame handled by this node for each source feed
+    private final ConcurrentHashMap<String, FrameProbabilities> lastFrames =
+            new ConcurrentHashMap<String, FrameProbabilities>();
+
+    /**
+     * Default empty constructor
+     */
+    public ProbSevereCrossingDetector() {
+    }
+
+    /**
+     * @see edu.wisc.ssec.cimss.edex.plugin.probsevere.IProbSevereIngestListener#recordsPersisted(java.util.List)
+     */
+    @Override
+    public void recordsPersisted(List<ProbSevereRecord> records) {
+        if (!enabled || thresholds.length == 0) {
+            return;
+        }
+        for (ProbSevereRecord record : records) {
+            if (record.isDerived() || record.getDataArrays() == null || !record.isRecordComplete()) {
+                continue;
+            }
+            List<ProbSevereCrossingEvent> events = null;
+            try {
+                FrameProbabilities current = new FrameProbabilities(record);
+                List<ProbSevereRecord> newest = findNewestFrames(record.getSource());
+                if (!newest.isEmpty() && newest.get(0).getDataTime().getRefTime().after(current.refTime)) {
+                    // Late frame, the newer frame stays the reference
+                    continue;
+                }
+                FrameProbabilities previous = newest.size() > 1 ? loadPreviousFrame(newest.get(1)) : null;
+                lastFrames.put(record.getSource(), current);
+                if (previous != null) {
+                    events = findCrossings(record, previous, current);
+                }
+            } catch (Exception e) {
+                statusHandler.error("Problem finding ProbSevere threshold crossings for: " + record.getDataURI(), e);
+            }
+            if (events != null) {
+                for (ProbSevereCrossingEvent event : events) {
+                    try {
+                        EDEXUtil.getMessageProducer().sendAsyncUri(topicUri,
+                                SerializationUtil.transformToThrift(event));
+                    } catch (Exception e) {
+                        statusHandler.error("Problem sending ProbSevere crossing event for: "
+                                + record.getDataURI(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the two newest stored frames of a source, the newest being the
+     * record just persisted unless it arrived late
+     *
+     * @param source of the record
+     * @return records without data, newest first
+     * @throws Exception
+     */
+    private List<ProbSevereRecord> findNewestFrames(String source) throws Exception {
+        PluginDao dao = PluginFactory.getInstance().getPluginDao(ProbSevereRecord.PLUGIN_NAME);
+        DatabaseQuery query = new DatabaseQuery(ProbSevereRecord.class);
+        query.addQueryParam("source", source);
+        query.addOrder("dataTime.refTime", false);
+        query.setMaxResults(2);
+        List<ProbSevereRecord> frames = new ArrayList<ProbSevereRecord>();
+        for (Object result : dao.queryByCriteria(query)) {
+            frames.add((ProbSevereRecord) result);
+        }
+        return frames;
+    }
+
+    /**
+     * Retrieves the probabilities of the previous frame, reading the frame
+     * unless it is the last frame handled by this node
+     *
+     * @param stored previous record without data
+     * @return previous frame, null if it could not be read
+     */
+    private FrameProbabilities loadPreviousFrame(ProbSevereRecord stored) {
+        Date refTime = stored.getDataTime().getRefTime();
+        FrameProbabilities last = lastFrames.get(stored.getSource());
+        if (last != null && last.refTime.getTime() == refTime.getTime()) {
+            return last;
+        }
+        try {
+            return new FrameProbabilities(ProbSevereFrameCache.getInstance().getFrame(stored.getDataURI()).getRecord());
+        } catch (Exception e) {
+            statusHandler.warn("Unable to read the previous ProbSevere frame: " + stored.getDataURI(), e);
+        }
+        return null;
+    }
+
+    /**
+     * Compares the objects of two frames
+     *
+     * @param new record
+     * @param previous frame
+     * @param new frame
+     * @return crossing events
+     */
+    private List<ProbSevereCrossingEvent> findCrossings(ProbSevereRecord record, FrameProbabilities previous,
+            FrameProbabilities current) {
+        List<ProbSevereCrossingEvent> events = new ArrayList<ProbSevereCrossingEvent>();
+        List<String> modelTypes = ProbSevereRecord.getModelTypes();
+        WKTReader reader = new WKTReader();
+        for (Map.Entry<String, Integer> entry : current.indices.entrySet()) {
+            int i = entry.getValue();
+            int[] oldProbs = previous.getProbabilities(entry.getKey());
+            Point centroid = null;
+            for (int m = 0; m < modelTypes.size(); m++) {
+                int oldProb = oldProbs == null ? -1 : oldProbs[m];
+                int newProb = current.probabilities[m][i];
+                int threshold = findThreshold(Math.max(oldProb, 0), newProb);
+                if (threshold < 0) {
+                    continue;
+                }
+                if (centroid == null) {
+                    try {
+                        centroid = reader.read(record.getPolygons()[i]).getCentroid();
+                    } catch (Exception e) {
+                        statusHandler.warn("Well Known Text reader could not read selected text: "
+                                + record.getPolygons()[i], e);
+                        break;
+                    }
+                }
+                ProbSevereCrossingEvent event = new ProbSevereCrossingEvent();
+                event.setSource(record.getSource());
+                event.setObjectId(entry.getKey());
+                event.setModelType(modelTypes.get(m));
+                event.setThreshold(threshold);
+                event.setOldProb(oldProb);
+                event.setNewProb(newProb);
+                event.setCentroidLon((float) centroid.getX());
+                event.setCentroidLat((float) centroid.getY());
+                event.setRefTime(current.refTime);
+                event.setPreviousRefTime(previous.refTime);
+                event.setDataURI(record.getDataURI());
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Finds the threshold crossed between two probabilities
+     *
+     * @param old probability
+     * @param new probability
+     * @return highest threshold crossed rising, lowest threshold crossed
+     *         falling, -1 if none was crossed
+     */
+    private int findThreshold(int oldProb, int newProb) {
+        int crossed = -1;
+        for (int threshold : thresholds) {
+            if (oldProb < threshold && newProb >= threshold) {
+                crossed = threshold;
+            } else if (newProb < threshold && oldProb >= threshold && crossed < 0) {
+                crossed = threshold;
+            }
+        }
+        return crossed;
+    }
+
+    private static int[] parseThresholds(String value) {
+        List<Integer> parsed = new ArrayList<Integer>();
+        for (String token : value.split(",")) {
+            try {
+                if (!token.trim().isEmpty()) {
+                    parsed.add(Integer.valueOf(token.trim()));
+                }
+            } catch (NumberFormatException e) {
+                statusHandler.warn("Ignoring invalid ProbSevere crossing threshold: " + token);
+            }
+        }
+        int[] result = new int[parsed.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = parsed.get(i);
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Determines if crossing events are published
+     *
+     * @return boolean
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Set whether crossing events are published
+     *
+     * @param boolean
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Retrieve thresholds that are watched for crossings
+     *
+     * @return comma separated thresholds
+     */
+    public String getThresholds() {
+        StringBuilder sb = new StringBuilder();
+        for (int threshold : thresholds) {
+            if (sb.length() > 0) {
+                sb.append(",");
+            }
+            sb.append(threshold);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Set thresholds that are watched for crossings
+     *
+     * @param comma separated thresholds
+     */
+    public void setThresholds(String thresholds) {
+        this.thresholds = parseThresholds(thresholds);
+    }
+
+    /**
+     * Model probabilities of the objects of one frame by object ID
+     */
+    private static class FrameProbabilities {
+
+        private final Date refTime;
+
+        private final Map<String, Integer> indices = new HashMap<String, Integer>();
+
+        private final int[][] probabilities;
+
+        private FrameProbabilities(ProbSevereRecord record) {
+            this.refTime = record.getDataTime().getRefTime();
+            List<String> modelTypes = ProbSevereRecord.getModelTypes();
+            probabilities = new int[modelTypes.size()][];
+            for (int m = 0; m < modelTypes.size(); m++) {
+                probabilities[m] = record.getModelProbabilities(modelTypes.get(m));
+            }
+            String[] keys = record.getPropertiesKeys();
+            String[] props = record.getProperties();
+            for (int i = 0; i < keys.length; i++) {
+                String id = ProbSevereRecord.createPropsMap(keys[i], props[i]).get("ID");
+                if (id != null) {
+                    indices.put(id, i);
+                }
+            }
+        }
+
+        private int[] getProbabilities(String id) {
+            Integer i = indices.get(id);
+            if (i == null) {
+                return null;
+            }
+            int[] probs = new int[probabilities.length];
+            for (int m = 0; m < probs.length; m++) {
+                probs[m] = probabilities[m][i];
+            }
+            return probs;
+        }
+
+    }
+
+}
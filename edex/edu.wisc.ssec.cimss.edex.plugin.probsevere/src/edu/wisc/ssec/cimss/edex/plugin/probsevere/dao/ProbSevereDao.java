@@ -1,12 +1,29 @@
 package edu.wisc.ssec.cimss.edex.plugin.probsevere.dao;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereFeatureRecord;
 import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereGrid;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereLod;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereTiling;
+import edu.wisc.ssec.cimss.edex.plugin.probsevere.ProbSevereIngestClaim;
+import edu.wisc.ssec.cimss.edex.plugin.probsevere.ProbSevereIngestListeners;
+import com.raytheon.uf.common.dataplugin.PluginDataObject;
 import com.raytheon.uf.common.dataplugin.PluginException;
 import com.raytheon.uf.common.dataplugin.persist.IPersistable;
 import com.raytheon.uf.common.datastorage.DataStoreFactory;
 import com.raytheon.uf.common.datastorage.IDataStore;
+import com.raytheon.uf.common.datastorage.StorageException;
+import com.raytheon.uf.common.datastorage.StorageProperties;
+import com.raytheon.uf.common.datastorage.StorageStatus;
 import com.raytheon.uf.common.datastorage.records.IDataRecord;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
 import com.raytheon.uf.edex.database.plugin.PluginDao;
+import com.vividsolutions.jts.geom.Envelope;
 
 /**
  * NOAA/CIMSS ProbSevere Model Data Acquisition Object
@@ -21,6 +38,30 @@ import com.raytheon.uf.edex.database.plugin.PluginDao;
  * Nov 29, 2018 DCS 20816   lcronce     Updated package name and methods 
  *                                      to use ProbSevere instead of ConvectProb 
  *                                      to better reflect the product origin.
+ * Oct 19, 2026             cimss       Notify registered ingest stages of
+ *                                      persisted records.
+ * Oct 19, 2026             cimss       Write per-feature rows along with
+ *                                      persisted records.
+ * Oct 19, 2026             cimss       Update object track summaries from the
+ *                                      per-feature rows.
+ * Oct 19, 2026             cimss       Optionally store records in geographic
+ *                                      tiles.
+ * Oct 19, 2026             cimss       Release the cluster ingest claim of
+ *                                      persisted records.
+ * Oct 19, 2026             cimss       Skip derived records when writing
+ *                                      per-feature rows.
+ * Oct 19, 2026             cimss       Store a rasterized max-probability
+ *                                      grid with each record.
+ * Oct 19, 2026             cimss       Write per-CWA rollups along with
+ *                                      persisted records.
+ * Oct 19, 2026             cimss       Store simplified polygons for each
+ *                                      level of detail.
+ * Oct 19, 2026             cimss       Record where the shapes of a record are
+ *                                      stored for its simplified polygons.
+ * Oct 19, 2026             cimss       Release the cluster ingest claim of
+ *                                      records that could not be stored.
+ * Oct 19, 2026             cimss       Skip the grid and levels of detail of
+ *                                      derived records.
  *
  * </pre
  *
@@ -31,6 +72,26 @@ import com.raytheon.uf.edex.database.plugin.PluginDao;
 
 public class ProbSevereDao extends PluginDao {
 
+    private static final IUFStatusHandler statusHandler = UFStatus.getHandler(ProbSevereDao.class);
+
+    // Store records split into geographic tiles instead of one set of datasets
+    private static final boolean TILED_STORAGE = Boolean.getBoolean("probsevere.storage.tiled");
+
+    // Store a rasterized max-probability grid with each record
+    private static final boolean GRID_STORAGE = Boolean.parseBoolean(
+            System.getProperty("probsevere.grid.enabled", "true"));
+
+    // Store simplified polygons for each level of detail with each record
+    private static final boolean LOD_STORAGE = Boolean.parseBoolean(
+            System.getProperty("probsevere.lod.enabled", "true"));
+
+    // Grid cell size in degrees
+    private static final double GRID_RESOLUTION = Double.parseDouble(
+            System.getProperty("probsevere.grid.resolution", "0.05"));
+
+    // Grid extent as minLon,minLat,maxLon,maxLat unless set for the source
+    private static final String GRID_EXTENT = "-130,20,-60,55";
+
     /**
      * ProbSevereDao constructor
      * @param Plugin name
@@ -50,14 +111,251 @@ public class ProbSevereDao extends PluginDao {
             IPersistable obj) throws Exception {
         ProbSevereRecord psRec = (ProbSevereRecord) obj;
 
+        // Derived records such as swaths are few, already simplified shapes
+        // that are drawn as they are, so they get no grid or levels of detail
+        boolean derived = psRec.isDerived();
+        if (GRID_STORAGE && !derived && psRec.getPolygons() != null && psRec.isRecordComplete()) {
+            populateGrids(dataStore, psRec);
+        }
+
+        String[][] lodPolygons = null;
+        if (LOD_STORAGE && !derived && psRec.getPolygons() != null) {
+            lodPolygons = new String[ProbSevereLod.TOLERANCES.length][];
+            for (int l = 1; l < lodPolygons.length; l++) {
+                lodPolygons[l] = ProbSevereLod.simplify(psRec.getPolygons(), l);
+            }
+        }
+
+        if (TILED_STORAGE && psRec.getPolygons() != null && psRec.getPolygons().length > 0) {
+            return populateTiles(dataStore, psRec, lodPolygons);
+        }
+
         for (int i = 0; i < psRec.getDataArrays().length; i++) {
             IDataRecord record = DataStoreFactory.createStorageRecord(
                     psRec.getDataNames()[i], psRec.getDataURI(), psRec.getDataArrays()[i]);
             record.setCorrelationObject(psRec);
             dataStore.addDataRecord(record);
         }
+        if (lodPolygons != null) {
+            populateLods(dataStore, psRec, psRec.getDataURI(), lodPolygons);
+        }
+        psRec.setStorageGroups(new String[] { psRec.getDataURI() });
+        psRec.setStorageIndices(null);
 
         return dataStore;
     }
 
+    /**
+     * Copy the simplified polygons of each level of detail into the lod
+     * group next to the group holding the polygons.
+     * @param dataStore DataStore instance to receive the polygons.
+     * @param psRec The record being stored.
+     * @param group The group holding the full-resolution polygons.
+     * @param lodPolygons The simplified polygons by level, level 0 unused.
+     * @throws Exception Any general exception thrown in this method.
+     */
+    private void populateLods(IDataStore dataStore, ProbSevereRecord psRec, String group,
+            String[][] lodPolygons) throws Exception {
+        for (int l = 1; l < lodPolygons.length; l++) {
+            IDataRecord record = DataStoreFactory.createStorageRecord(ProbSevereLod.getDatasetName(l),
+                    ProbSevereLod.getLodGroup(group), lodPolygons[l]);
+            record.setCorrelationObject(psRec);
+            dataStore.addDataRecord(record);
+        }
+    }
+
+    /**
+     * Copy data from a record into a given DataStore container as one group
+     * per geographic tile, listing the tiles and their bounds in the record
+     * group.
+     * @param dataStore DataStore instance to receive the record data.
+     * @param psRec The record to be stored.
+     * @param lodPolygons The simplified polygons by level, null for none.
+     * @throws Exception Any general exception thrown in this method.
+     */
+    private IDataStore populateTiles(IDataStore dataStore, ProbSevereRecord psRec,
+            String[][] lodPolygons) throws Exception {
+        Map<String, ProbSevereTiling.Tile> tiles = ProbSevereTiling.createTiles(psRec.getPolygons());
+        String[] tileKeys = new String[tiles.size()];
+        String[] tileBounds = new String[tiles.size()];
+        String[] groups = new String[tiles.size()];
+        int[] storageIndices = new int[psRec.getPolygons().length];
+        int position = 0;
+        int t = 0;
+        for (ProbSevereTiling.Tile tile : tiles.values()) {
+            String group = ProbSevereTiling.getTileGroup(psRec.getDataURI(), tile.getKey());
+            tileKeys[t] = tile.getKey();
+            tileBounds[t] = ProbSevereTiling.formatBounds(tile.getBounds());
+            groups[t] = group;
+            t++;
+            for (Integer index : tile.getIndices()) {
+                storageIndices[index.intValue()] = position++;
+            }
+            for (int i = 0; i < psRec.getDataArrays().length; i++) {
+                IDataRecord record = DataStoreFactory.createStorageRecord(psRec.getDataNames()[i], group,
+                        tile.subset((String[]) psRec.getDataArrays()[i]));
+                record.setCorrelationObject(psRec);
+                dataStore.addDataRecord(record);
+            }
+            if (lodPolygons != null) {
+                String[][] tileLods = new String[lodPolygons.length][];
+                for (int l = 1; l < lodPolygons.length; l++) {
+                    tileLods[l] = tile.subset(lodPolygons[l]);
+                }
+                populateLods(dataStore, psRec, group, tileLods);
+            }
+        }
+
+        IDataRecord keysRecord = DataStoreFactory.createStorageRecord(ProbSevereTiling.TILE_KEYS,
+                psRec.getDataURI(), tileKeys);
+        keysRecord.setCorrelationObject(psRec);
+        dataStore.addDataRecord(keysRecord);
+        IDataRecord boundsRecord = DataStoreFactory.createStorageRecord(ProbSevereTiling.TILE_BOUNDS,
+                psRec.getDataURI(), tileBounds);
+        boundsRecord.setCorrelationObject(psRec);
+        dataStore.addDataRecord(boundsRecord);
+        psRec.setStorageGroups(groups);
+        psRec.setStorageIndices(storageIndices);
+
+        return dataStore;
+    }
+
+    /**
+     * Rasterizes a record onto the grid configured for its source and adds
+     * one compressed byte dataset per model type, along with the grid
+     * description, to the grid group of the record.
+     * @param dataStore DataStore instance to receive the grids.
+     * @param psRec The record to be stored.
+     */
+    private void populateGrids(IDataStore dataStore, ProbSevereRecord psRec) {
+        String source = psRec.getSource();
+        if (psRec.isDerived()) {
+            source = source.substring(0, source.length() - ProbSevereRecord.SWATH_SOURCE_SUFFIX.length());
+        }
+        String extent = System.getProperty("probsevere.grid.extent." + source,
+                System.getProperty("probsevere.grid.extent", GRID_EXTENT));
+        ProbSevereGrid grid;
+        try {
+            String[] edges = extent.split(",");
+            grid = new ProbSevereGrid(new Envelope(Double.parseDouble(edges[0].trim()),
+                    Double.parseDouble(edges[2].trim()), Double.parseDouble(edges[1].trim()),
+                    Double.parseDouble(edges[3].trim())), GRID_RESOLUTION);
+        } catch (RuntimeException e) {
+            statusHandler.error("Invalid ProbSevere grid extent for " + source + ": " + extent, e);
+            return;
+        }
+
+        String group = ProbSevereGrid.getGridGroup(psRec.getDataURI());
+        byte[][] grids = grid.rasterize(psRec);
+        StorageProperties props = new StorageProperties();
+        props.setCompression(StorageProperties.Compression.LZF);
+        for (int m = 0; m < grids.length; m++) {
+            IDataRecord record = DataStoreFactory.createStorageRecord(ProbSevereRecord.getModelTypes().get(m),
+                    group, grids[m], 2, new long[] { grid.getNx(), grid.getNy() });
+            record.setProperties(props);
+            record.setCorrelationObject(psRec);
+            dataStore.addDataRecord(record);
+        }
+        IDataRecord infoRecord = DataStoreFactory.createStorageRecord(ProbSevereGrid.GRID_INFO, group,
+                grid.getInfo());
+        infoRecord.setCorrelationObject(psRec);
+        dataStore.addDataRecord(infoRecord);
+    }
+
+    /**
+     * Persists records to the data store, releasing the cluster ingest claims
+     * of records that could not be stored since they never reach the
+     * database.
+     * @param records The records to store.
+     * @return The status of the data store write.
+     * @throws PluginException
+     */
+    @Override
+    public StorageStatus persistToHDF5(PluginDataObject... records) throws PluginException {
+        StorageStatus status;
+        try {
+            status = super.persistToHDF5(records);
+        } catch (PluginException | RuntimeException e) {
+            for (PluginDataObject pdo : records) {
+                releaseClaim(pdo);
+            }
+            throw e;
+        }
+        if (status.getExceptions() != null) {
+            for (StorageException e : status.getExceptions()) {
+                if (e.getRecord() != null) {
+                    releaseClaim(e.getRecord().getCorrelationObject());
+                }
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Releases the cluster ingest claim of a decoded record.
+     * @param record The record, derived records hold no claim.
+     */
+    private static void releaseClaim(Object record) {
+        if (record instanceof ProbSevereRecord && !((ProbSevereRecord) record).isDerived()) {
+            ProbSevereIngestClaim.release((ProbSevereRecord) record);
+        }
+    }
+
+    /**
+     * Persists records to the database along with their per-feature rows and
+     * passes the newly stored records on to the registered ingest stages. The
+     * cluster ingest claims of the records are released once they are stored.
+     * @param records The records to persist.
+     * @return The records that were persisted.
+     */
+    @Override
+    public PluginDataObject[] persistToDatabase(PluginDataObject... records) {
+        PluginDataObject[] persisted;
+        try {
+            persisted = super.persistToDatabase(records);
+        } finally {
+            for (PluginDataObject pdo : records) {
+                releaseClaim(pdo);
+            }
+        }
+        List<ProbSevereRecord> psRecs = new ArrayList<ProbSevereRecord>(persisted.length);
+        for (PluginDataObject pdo : persisted) {
+            if (pdo instanceof ProbSevereRecord) {
+                psRecs.add((ProbSevereRecord) pdo);
+            }
+        }
+        persistFeatures(psRecs);
+        ProbSevereIngestListeners.getInstance().recordsPersisted(psRecs);
+        return persisted;
+    }
+
+    /**
+     * Writes the per-feature rows of persisted records in a single batch and
+     * adds them to the track summaries of their objects, along with the
+     * per-CWA rollups of each record.
+     * @param records The persisted records.
+     */
+    private void persistFeatures(List<ProbSevereRecord> records) {
+        List<ProbSevereFeatureRecord> features = new ArrayList<ProbSevereFeatureRecord>();
+        List<ProbSevereRecord> complete = new ArrayList<ProbSevereRecord>();
+        for (ProbSevereRecord psRec : records) {
+            if (!psRec.isDerived() && psRec.getDataArrays() != null && psRec.isRecordComplete()) {
+                features.addAll(ProbSevereFeatureRecord.createFeatureRecords(psRec));
+                complete.add(psRec);
+            }
+        }
+        if (!complete.isEmpty()) {
+            new ProbSevereRollupDao().persistRollups(complete);
+        }
+        if (!features.isEmpty()) {
+            try {
+                persistAll(features);
+            } catch (Exception e) {
+                statusHandler.error("Problem persisting ProbSevere feature rows", e);
+                return;
+            }
+            new ProbSevereTrackDao().updateTracks(features);
+        }
+    }
+
 }
@@ -0,0 +1,103 @@
+package edu.wisc.ssec.cimss.edex.plugin.probsevere.dao;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.TreeSet;
+
+import com.raytheon.uf.edex.database.DataAccessLayerException;
+import com.raytheon.uf.edex.database.dao.CoreDao;
+import com.raytheon.uf.edex.database.dao.DaoConfig;
+import com.raytheon.uf.edex.database.query.DatabaseQuery;
+import com.vividsolutions.jts.geom.Envelope;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereFeatureRecord;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Feature Data Acquisition Object
+ *
+ * Looks up the per-feature rows written at ingest, so spatial and
+ * probability questions only read the frames that hold a candidate feature.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereFeatureDao extends CoreDao {
+
+    // Widens envelopes so bounds stored as floats are not missed at the edges
+    private static final double BOUNDS_TOLERANCE = 1.0e-4;
+
+    /**
+     * ProbSevereFeatureDao constructor
+     */
+    public ProbSevereFeatureDao() {
+        super(DaoConfig.forClass(ProbSevereFeatureRecord.class));
+    }
+
+    /**
+     * Finds the valid times of the frames of a source holding a feature
+     * whose bounding box overlaps an envelope and that meets a minimum
+     * probability
+     * @param source The source of the frames.
+     * @param startTime The earliest valid time.
+     * @param endTime The latest valid time.
+     * @param envelope The lon/lat envelope the bounding boxes must overlap.
+     * @param modelType The model type the minimum applies to, null for any.
+     * @param minProbability The minimum probability.
+     * @return The valid times in ascending order.
+     * @throws DataAccessLayerException
+     */
+    public List<Date> getFeatureTimes(String source, Date startTime, Date endTime, Envelope envelope,
+            String modelType, int minProbability) throws DataAccessLayerException {
+        DatabaseQuery query = new DatabaseQuery(ProbSevereFeatureRecord.class);
+        query.addReturnedField("refTime");
+        query.addQueryParam("source", source);
+        query.addQueryParam("refTime", startTime, ">=");
+        query.addQueryParam("refTime", endTime, "<=");
+        query.addQueryParam("minLon", Float.valueOf((float) (envelope.getMaxX() + BOUNDS_TOLERANCE)), "<=");
+        query.addQueryParam("maxLon", Float.valueOf((float) (envelope.getMinX() - BOUNDS_TOLERANCE)), ">=");
+        query.addQueryParam("minLat", Float.valueOf((float) (envelope.getMaxY() + BOUNDS_TOLERANCE)), "<=");
+        query.addQueryParam("maxLat", Float.valueOf((float) (envelope.getMinY() - BOUNDS_TOLERANCE)), ">=");
+        // Without a model type any model may meet the minimum, which the
+        // frame index checks
+        String field = getProbabilityField(modelType);
+        if (field != null && minProbability > 0) {
+            query.addQueryParam(field, Integer.valueOf(minProbability), ">=");
+        }
+        TreeSet<Date> times = new TreeSet<Date>();
+        for (Object result : queryByCriteria(query)) {
+            times.add(new Date(((Date) result).getTime()));
+        }
+        return new ArrayList<Date>(times);
+    }
+
+    /**
+     * Retrieve the feature row field holding the probability of a model type
+     * @param modelType The model type, null for none.
+     * @return The field name, null if there is no model type.
+     * @throws IllegalArgumentException if the model type is not known
+     */
+    private static String getProbabilityField(String modelType) {
+        if (modelType == null) {
+            return null;
+        } else if (modelType.equalsIgnoreCase("probsevere")) {
+            return "severeProb";
+        } else if (modelType.equalsIgnoreCase("probtor")) {
+            return "torProb";
+        } else if (modelType.equalsIgnoreCase("probhail")) {
+            return "hailProb";
+        } else if (modelType.equalsIgnoreCase("probwind")) {
+            return "windProb";
+        }
+        throw new IllegalArgumentException("Unknown ProbSevere model type: " + modelType);
+    }
+
+}
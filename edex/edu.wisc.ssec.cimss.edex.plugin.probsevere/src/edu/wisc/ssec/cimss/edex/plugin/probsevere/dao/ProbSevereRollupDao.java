@@ -0,0 +1,156 @@
+package edu.wisc.ssec.cimss.edex.plugin.probsevere.dao;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.common.time.util.TimeUtil;
+import com.raytheon.uf.edex.database.DataAccessLayerException;
+import com.raytheon.uf.edex.database.dao.CoreDao;
+import com.raytheon.uf.edex.database.dao.DaoConfig;
+import com.raytheon.uf.edex.database.query.DatabaseQuery;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRollupRecord;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Rollup Data Acquisition Object
+ *
+ * Writes the per-CWA object counts of persisted frames and looks them up.
+ * Objects are counted at the thresholds listed in
+ * probsevere.rollup.thresholds (default 10,30,50,70,90). A lookup may cover
+ * no more than probsevere.rollup.max.hours (default 24).
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Rely on the ALL rows of every frame for
+ *                                      the newest time.
+ * Oct 19, 2026             cimss       Limit the length of the time range.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereRollupDao extends CoreDao {
+
+    private static final IUFStatusHandler statusHandler = UFStatus.getHandler(ProbSevereRollupDao.class);
+
+    private static final int[] THRESHOLDS = parseThresholds(
+            System.getProperty("probsevere.rollup.thresholds", "10,30,50,70,90"));
+
+    // Longest time range a single lookup may cover
+    private static final long MAX_RANGE = Long.getLong("probsevere.rollup.max.hours", 24L).longValue()
+            * TimeUtil.MILLIS_PER_HOUR;
+
+    /**
+     * ProbSevereRollupDao constructor
+     */
+    public ProbSevereRollupDao() {
+        super(DaoConfig.forClass(ProbSevereRollupRecord.class));
+    }
+
+    /**
+     * Computes and writes the rollups of persisted records in a single batch
+     * @param records The complete, persisted records.
+     */
+    public void persistRollups(List<ProbSevereRecord> records) {
+        if (THRESHOLDS.length == 0) {
+            return;
+        }
+        List<ProbSevereRollupRecord> rollups = new ArrayList<ProbSevereRollupRecord>();
+        for (ProbSevereRecord record : records) {
+            rollups.addAll(ProbSevereRollupRecord.createRollupRecords(record, THRESHOLDS));
+        }
+        if (!rollups.isEmpty()) {
+            try {
+                persistAll(rollups);
+            } catch (Exception e) {
+                statusHandler.error("Problem persisting ProbSevere rollups", e);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the rollups of a source ordered by valid time
+     * @param source The source of the rollups.
+     * @param cwa The CWA of the rollups, null for every CWA.
+     * @param startTime The earliest valid time, null for the newest frame only.
+     * @param endTime The latest valid time, null for the longest range.
+     * @return The rollup rows.
+     * @throws IllegalArgumentException if the time range is too long
+     * @throws DataAccessLayerException
+     */
+    public List<ProbSevereRollupRecord> getRollups(String source, String cwa, Date startTime, Date endTime)
+            throws DataAccessLayerException {
+        List<ProbSevereRollupRecord> rollups = new ArrayList<ProbSevereRollupRecord>();
+        if (startTime == null) {
+            startTime = getNewestTime(source, endTime);
+            if (startTime == null) {
+                return rollups;
+            }
+            endTime = startTime;
+        } else if (endTime == null) {
+            endTime = new Date(startTime.getTime() + MAX_RANGE);
+        } else if (endTime.before(startTime) || endTime.getTime() - startTime.getTime() > MAX_RANGE) {
+            throw new IllegalArgumentException("Rollup time range must be positive and no longer than "
+                    + MAX_RANGE / TimeUtil.MILLIS_PER_HOUR + " hours");
+        }
+        DatabaseQuery query = new DatabaseQuery(ProbSevereRollupRecord.class);
+        query.addQueryParam("source", source);
+        if (cwa != null) {
+            query.addQueryParam("cwa", cwa);
+        }
+        query.addQueryParam("refTime", startTime, ">=");
+        query.addQueryParam("refTime", endTime, "<=");
+        query.addOrder("refTime", true);
+        for (Object result : queryByCriteria(query)) {
+            rollups.add((ProbSevereRollupRecord) result);
+        }
+        return rollups;
+    }
+
+    /**
+     * Finds the valid time of the newest frame of a source, every frame has
+     * ALL rows even when they count no objects
+     */
+    private Date getNewestTime(String source, Date endTime) throws DataAccessLayerException {
+        DatabaseQuery query = new DatabaseQuery(ProbSevereRollupRecord.class);
+        query.addReturnedField("refTime");
+        query.addQueryParam("source", source);
+        query.addQueryParam("cwa", ProbSevereRollupRecord.ALL_CWAS);
+        if (endTime != null) {
+            query.addQueryParam("refTime", endTime, "<=");
+        }
+        query.addOrder("refTime", false);
+        query.setMaxResults(1);
+        List<?> results = queryByCriteria(query);
+        return results.isEmpty() ? null : (Date) results.get(0);
+    }
+
+    private static int[] parseThresholds(String value) {
+        List<Integer> parsed = new ArrayList<Integer>();
+        for (String token : value.split(",")) {
+            try {
+                if (!token.trim().isEmpty()) {
+                    parsed.add(Integer.valueOf(token.trim()));
+                }
+            } catch (NumberFormatException e) {
+                statusHandler.warn("Ignoring invalid ProbSevere rollup threshold: " + token);
+            }
+        }
+        int[] result = new int[parsed.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = parsed.get(i);
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+}
@@ -0,0 +1,191 @@
+package edu.wisc.ssec.cimss.edex.plugin.probsevere.dao;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.common.time.util.TimeUtil;
+import com.raytheon.uf.edex.database.DataAccessLayerException;
+import com.raytheon.uf.edex.database.cluster.ClusterLockUtils;
+import com.raytheon.uf.edex.database.cluster.ClusterLockUtils.LockState;
+import com.raytheon.uf.edex.database.cluster.ClusterTask;
+import com.raytheon.uf.edex.database.dao.CoreDao;
+import com.raytheon.uf.edex.database.dao.DaoConfig;
+import com.raytheon.uf.edex.database.query.DatabaseQuery;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereFeatureRecord;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereTrackRecord;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Track Data Acquisition Object
+ *
+ * Maintains the per-object track summaries as feature rows are written and
+ * looks up the track points of an object. Summaries not updated within
+ * probsevere.track.retention.hours (default 24) of the newest feature are
+ * removed. The summaries of a source are updated under a cluster lock on the
+ * source, so ingest nodes writing frames of the same source one after the
+ * other do not overwrite each other's updates.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Keep tracks per source.
+ * Oct 19, 2026             cimss       Update the tracks of a source under a
+ *                                      cluster lock.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereTrackDao extends CoreDao {
+
+    private static final IUFStatusHandler statusHandler = UFStatus.getHandler(ProbSevereTrackDao.class);
+
+    private static final long RETENTION = Long.getLong("probsevere.track.retention.hours", 24L)
+            * TimeUtil.MILLIS_PER_HOUR;
+
+    private static final String LOCK_NAME = "probsevere-track";
+
+    // Time after which a lock that was never released may be taken over
+    private static final long LOCK_TIMEOUT = Long.getLong("probsevere.track.lock.seconds", 60L)
+            * TimeUtil.MILLIS_PER_SECOND;
+
+    /**
+     * ProbSevereTrackDao constructor
+     */
+    public ProbSevereTrackDao() {
+        super(DaoConfig.forClass(ProbSevereTrackRecord.class));
+    }
+
+    /**
+     * Adds newly written feature rows to the summaries of their objects
+     * @param features The feature rows that were persisted.
+     */
+    public void updateTracks(List<ProbSevereFeatureRecord> features) {
+        Map<String, List<ProbSevereFeatureRecord>> sourceFeatures = new LinkedHashMap<String, List<ProbSevereFeatureRecord>>();
+        Date newest = null;
+        for (ProbSevereFeatureRecord feature : features) {
+            if (feature.getObjectId() != null) {
+                List<ProbSevereFeatureRecord> list = sourceFeatures.get(feature.getSource());
+                if (list == null) {
+                    list = new ArrayList<ProbSevereFeatureRecord>();
+                    sourceFeatures.put(feature.getSource(), list);
+                }
+                list.add(feature);
+            }
+            if (newest == null || feature.getRefTime().after(newest)) {
+                newest = feature.getRefTime();
+            }
+        }
+        if (sourceFeatures.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, List<ProbSevereFeatureRecord>> entry : sourceFeatures.entrySet()) {
+            String source = entry.getKey();
+            ClusterTask task = ClusterLockUtils.lock(LOCK_NAME, source, LOCK_TIMEOUT, true);
+            if (task.getLockState() != LockState.SUCCESSFUL) {
+                statusHandler.warn("Unable to lock ProbSevere object tracks of " + source + ", tracks not updated");
+                continue;
+            }
+            try {
+                updateTracks(source, entry.getValue());
+            } catch (Exception e) {
+                statusHandler.error("Problem updating ProbSevere object tracks of " + source, e);
+            } finally {
+                ClusterLockUtils.unlock(LOCK_NAME, source);
+            }
+        }
+        try {
+            purgeTracks(new Date(newest.getTime() - RETENTION));
+        } catch (Exception e) {
+            statusHandler.error("Problem purging ProbSevere object tracks", e);
+        }
+    }
+
+    /**
+     * Adds feature rows of one source to the summaries of their objects, the
+     * caller holding the lock of the source
+     * @param source The source of the feature rows.
+     * @param features The feature rows that were persisted.
+     * @throws DataAccessLayerException
+     */
+    private void updateTracks(String source, List<ProbSevereFeatureRecord> features)
+            throws DataAccessLayerException {
+        Set<String> objectIds = new HashSet<String>();
+        for (ProbSevereFeatureRecord feature : features) {
+            objectIds.add(feature.getObjectId());
+        }
+        Map<String, ProbSevereTrackRecord> tracks = new HashMap<String, ProbSevereTrackRecord>();
+        DatabaseQuery query = new DatabaseQuery(ProbSevereTrackRecord.class);
+        query.addQueryParam("source", source);
+        query.addQueryParam("objectId", new ArrayList<String>(objectIds), "in");
+        for (Object result : queryByCriteria(query)) {
+            ProbSevereTrackRecord track = (ProbSevereTrackRecord) result;
+            tracks.put(track.getObjectId(), track);
+        }
+        for (ProbSevereFeatureRecord feature : features) {
+            ProbSevereTrackRecord track = tracks.get(feature.getObjectId());
+            if (track == null) {
+                track = new ProbSevereTrackRecord(source, feature.getObjectId());
+                tracks.put(feature.getObjectId(), track);
+            }
+            track.addFeature(feature);
+        }
+        persistAll(tracks.values());
+    }
+
+    /**
+     * Retrieves the summary of an object
+     * @param source The source of the object.
+     * @param objectId The object ID.
+     * @return The track summary, null if the object is not known.
+     * @throws DataAccessLayerException
+     */
+    public ProbSevereTrackRecord getTrack(String source, String objectId) throws DataAccessLayerException {
+        DatabaseQuery query = new DatabaseQuery(ProbSevereTrackRecord.class);
+        query.addQueryParam("source", source);
+        query.addQueryParam("objectId", objectId);
+        List<?> results = queryByCriteria(query);
+        return results.isEmpty() ? null : (ProbSevereTrackRecord) results.get(0);
+    }
+
+    /**
+     * Retrieves the track points of an object ordered by valid time
+     * @param source The source of the object.
+     * @param objectId The object ID.
+     * @return The feature rows of the object.
+     * @throws DataAccessLayerException
+     */
+    public List<ProbSevereFeatureRecord> getTrackFeatures(String source, String objectId)
+            throws DataAccessLayerException {
+        DatabaseQuery query = new DatabaseQuery(ProbSevereFeatureRecord.class);
+        query.addQueryParam("source", source);
+        query.addQueryParam("objectId", objectId);
+        query.addOrder("refTime", true);
+        List<ProbSevereFeatureRecord> features = new ArrayList<ProbSevereFeatureRecord>();
+        for (Object result : queryByCriteria(query)) {
+            features.add((ProbSevereFeatureRecord) result);
+        }
+        return features;
+    }
+
+    private void purgeTracks(Date purgeTime) throws DataAccessLayerException {
+        DatabaseQuery query = new DatabaseQuery(ProbSevereTrackRecord.class);
+        query.addQueryParam("lastTime", purgeTime, "<");
+        List<?> expired = queryByCriteria(query);
+        if (!expired.isEmpty()) {
+            deleteAll(expired);
+        }
+    }
+
+}
@@ -0,0 +1,270 @@
+package edu.wisc.ssec.cimss.edex.plugin.probsevere.dataaccess;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.raytheon.uf.common.dataaccess.IDataRequest;
+import com.raytheon.uf.common.dataaccess.exception.DataRetrievalException;
+import com.raytheon.uf.common.dataaccess.exception.IncompatibleRequestException;
+import com.raytheon.uf.common.dataaccess.exception.UnsupportedOutputTypeException;
+import com.raytheon.uf.common.dataaccess.geom.IGeometryData;
+import com.raytheon.uf.common.dataaccess.geom.IGeometryData.Type;
+import com.raytheon.uf.common.dataaccess.grid.IGridData;
+import com.raytheon.uf.common.dataaccess.impl.AbstractDataPluginFactory;
+import com.raytheon.uf.common.dataaccess.impl.DefaultGeometryData;
+import com.raytheon.uf.common.dataquery.requests.RequestConstraint;
+import com.raytheon.uf.common.dataquery.responses.DbQueryResponse;
+import com.raytheon.uf.edex.database.DataAccessLayerException;
+import com.vividsolutions.jts.geom.Envelope;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+import edu.wisc.ssec.cimss.edex.plugin.probsevere.cache.ProbSevereFrame;
+import edu.wisc.ssec.cimss.edex.plugin.probsevere.cache.ProbSevereFrameCache;
+import edu.wisc.ssec.cimss.edex.plugin.probsevere.dao.ProbSevereFeatureDao;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Data Access Factory
+ *
+ * Geometry data access for ProbSevere objects. The per-feature rows select
+ * the frames holding a feature within the envelope that meets the minimum
+ * probability, and only those frames are read and filtered exactly with
+ * their feature index. Parameters may be a model type (returns its PROB), a
+ * property key such as ID, or a model type and model property key separated
+ * by a period such as probtor.LINE01. The modelType and minProbability
+ * identifiers limit the returned objects by probability, and the source
+ * identifier selects the feed, the default source if none is given. Derived
+ * sources such as swaths are only returned when requested by name.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Added source identifier.
+ * Oct 19, 2026             cimss       Reject unknown model types and invalid
+ *                                      minimum probabilities.
+ * Oct 19, 2026             cimss       Use the default source unless a source
+ *                                      identifier is given.
+ * Oct 19, 2026             cimss       Select frames from the per-feature rows
+ *                                      and return a copy of the model types.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereGeometryFactory extends AbstractDataPluginFactory {
+
+    public static final String SOURCE = "source";
+
+    public static final String MODEL_TYPE = "modelType";
+
+    public static final String MIN_PROBABILITY = "minProbability";
+
+    private static final String[] OPTIONAL_IDENTIFIERS = { SOURCE, MODEL_TYPE, MIN_PROBABILITY };
+
+    /**
+     * @see com.raytheon.uf.common.dataaccess.impl.AbstractDataFactory#getOptionalIdentifiers(com.raytheon.uf.common.dataaccess.IDataRequest)
+     */
+    @Override
+    public String[] getOptionalIdentifiers(IDataRequest request) {
+        return OPTIONAL_IDENTIFIERS;
+    }
+
+    /**
+     * @see com.raytheon.uf.common.dataaccess.impl.AbstractDataFactory#getAvailableParameters(com.raytheon.uf.common.dataaccess.IDataRequest)
+     */
+    @Override
+    public String[] getAvailableParameters(IDataRequest request) {
+        return ProbSevereRecord.getModelTypes().toArray(new String[0]);
+    }
+
+    /**
+     * @see com.raytheon.uf.common.dataaccess.impl.AbstractDataPluginFactory#buildConstraintsFromRequest(com.raytheon.uf.common.dataaccess.IDataRequest)
+     */
+    @Override
+    protected Map<String, RequestConstraint> buildConstraintsFromRequest(IDataRequest request) {
+        Map<String, RequestConstraint> constraints = new HashMap<String, RequestConstraint>();
+        constraints.put(SOURCE, new RequestConstraint(getSource(request)));
+        return constraints;
+    }
+
+    /**
+     * @see com.raytheon.uf.common.dataaccess.impl.AbstractDataPluginFactory#getGridData(com.raytheon.uf.common.dataaccess.IDataRequest, com.raytheon.uf.common.dataquery.responses.DbQueryResponse)
+     */
+    @Override
+    protected IGridData[] getGridData(IDataRequest request, DbQueryResponse dbQueryResponse) {
+        throw new UnsupportedOutputTypeException(request.getDatatype(), "grid");
+    }
+
+    /**
+     * @see com.raytheon.uf.common.dataaccess.impl.AbstractDataPluginFactory#getGeometryData(com.raytheon.uf.common.dataaccess.IDataRequest, com.raytheon.uf.common.dataquery.responses.DbQueryResponse)
+     */
+    @Override
+    protected IGeometryData[] getGeometryData(IDataRequest request, DbQueryResponse dbQueryResponse) {
+        Envelope envelope = request.getEnvelope();
+        if (envelope == null) {
+            envelope = new Envelope(-180.0, 180.0, -90.0, 90.0);
+        }
+        String modelType = getModelType(request);
+        int minProbability = getMinProbability(request);
+        String[] parameters = request.getParameters();
+        if (parameters == null || parameters.length == 0) {
+            parameters = ProbSevereRecord.getModelTypes().toArray(new String[0]);
+        }
+
+        ProbSevereRecord[] records = dbQueryResponse.getEntityObjects(ProbSevereRecord.class);
+        Set<Long> featureTimes = findFeatureTimes(getSource(request), records, envelope, modelType,
+                minProbability);
+        List<IGeometryData> results = new ArrayList<IGeometryData>();
+        for (ProbSevereRecord rec : records) {
+            if (featureTimes != null && !featureTimes.contains(rec.getDataTime().getRefTime().getTime())) {
+                continue;
+            }
+            ProbSevereFrame frame;
+            try {
+                frame = ProbSevereFrameCache.getInstance().getFrame(rec.getDataURI());
+            } catch (Exception e) {
+                throw new DataRetrievalException("Unable to retrieve ProbSevere data for: " + rec.getDataURI(), e);
+            }
+            ProbSevereRecord record = frame.getRecord();
+            for (Integer index : frame.getIndex().query(envelope, false, modelType, minProbability)) {
+                int i = index.intValue();
+                Map<String, String> properties = ProbSevereRecord.createPropsMap(record.getPropertiesKeys()[i],
+                        record.getProperties()[i]);
+                DefaultGeometryData data = new DefaultGeometryData();
+                data.setDataTime(rec.getDataTime());
+                data.setGeometry(frame.getIndex().getGeometry(i));
+                data.setLocationName(properties.get("ID"));
+                for (String parameter : parameters) {
+                    addParameter(data, record, properties, parameter, i);
+                }
+                results.add(data);
+            }
+        }
+        return results.toArray(new IGeometryData[0]);
+    }
+
+    /**
+     * Finds the valid times of the frames holding a candidate feature from
+     * the per-feature rows, so frames without one are never read
+     *
+     * @param source of the frames
+     * @param records matching the request time
+     * @param lon/lat envelope of the request
+     * @param model type, null for any
+     * @param minimum probability
+     * @return valid times in milliseconds, null if every frame must be read
+     * @throws DataRetrievalException if the feature rows cannot be queried
+     */
+    private Set<Long> findFeatureTimes(String source, ProbSevereRecord[] records, Envelope envelope,
+            String modelType, int minProbability) {
+        // Derived sources have no feature rows
+        if (records.length == 0 || source.endsWith(ProbSevereRecord.SWATH_SOURCE_SUFFIX)) {
+            return null;
+        }
+        Date start = records[0].getDataTime().getRefTime();
+        Date end = start;
+        for (ProbSevereRecord rec : records) {
+            Date refTime = rec.getDataTime().getRefTime();
+            if (refTime.before(start)) {
+                start = refTime;
+            } else if (refTime.after(end)) {
+                end = refTime;
+            }
+        }
+        Set<Long> times = new HashSet<Long>();
+        try {
+            for (Date refTime : new ProbSevereFeatureDao().getFeatureTimes(source, start, end, envelope, modelType,
+                    minProbability)) {
+                times.add(Long.valueOf(refTime.getTime()));
+            }
+        } catch (DataAccessLayerException e) {
+            throw new DataRetrievalException("Unable to query ProbSevere features of source: " + source, e);
+        }
+        return times;
+    }
+
+    /**
+     * Retrieves the source identifier of a request
+     *
+     * @param data request
+     * @return source, the default source if none was requested
+     */
+    private String getSource(IDataRequest request) {
+        Map<String, Object> identifiers = request.getIdentifiers();
+        if (identifiers == null || identifiers.get(SOURCE) == null) {
+            return ProbSevereRecord.DEFAULT_SOURCE;
+        }
+        return identifiers.get(SOURCE).toString();
+    }
+
+    /**
+     * Retrieves the modelType identifier of a request
+     *
+     * @param data request
+     * @return model type, null if none was requested
+     * @throws IncompatibleRequestException if the model type is not known
+     */
+    private String getModelType(IDataRequest request) {
+        Map<String, Object> identifiers = request.getIdentifiers();
+        if (identifiers == null || identifiers.get(MODEL_TYPE) == null) {
+            return null;
+        }
+        String modelType = identifiers.get(MODEL_TYPE).toString();
+        if (!ProbSevereRecord.isModelType(modelType)) {
+            throw new IncompatibleRequestException("Unknown ProbSevere " + MODEL_TYPE + " '" + modelType
+                    + "', must be one of " + ProbSevereRecord.getModelTypes());
+        }
+        return modelType;
+    }
+
+    /**
+     * Retrieves the minProbability identifier of a request
+     *
+     * @param data request
+     * @return minimum probability, 0 if none was requested
+     * @throws IncompatibleRequestException if the minimum is not an integer
+     */
+    private int getMinProbability(IDataRequest request) {
+        Map<String, Object> identifiers = request.getIdentifiers();
+        if (identifiers == null || identifiers.get(MIN_PROBABILITY) == null) {
+            return 0;
+        }
+        String minProbability = identifiers.get(MIN_PROBABILITY).toString().trim();
+        try {
+            return Integer.parseInt(minProbability);
+        } catch (NumberFormatException e) {
+            throw new IncompatibleRequestException("ProbSevere " + MIN_PROBABILITY + " must be an integer"
+                    + " percent, not '" + minProbability + "'");
+        }
+    }
+
+    private void addParameter(DefaultGeometryData data, ProbSevereRecord record, Map<String, String> properties,
+            String parameter, int i) {
+        String[] modelKeys = record.getModelKeys(parameter);
+        if (modelKeys != null) {
+            int prob = ProbSevereRecord.parseProbability(modelKeys[i], record.getModelProps(parameter)[i]);
+            data.addData(parameter, Integer.valueOf(prob), Type.INT);
+            return;
+        }
+        int split = parameter.indexOf('.');
+        if (split > 0) {
+            String modelType = parameter.substring(0, split);
+            modelKeys = record.getModelKeys(modelType);
+            if (modelKeys != null) {
+                Map<String, String> modelProps = ProbSevereRecord.createPropsMap(modelKeys[i],
+                        record.getModelProps(modelType)[i]);
+                data.addData(parameter, modelProps.get(parameter.substring(split + 1)), Type.STRING);
+                return;
+            }
+        }
+        data.addData(parameter, properties.get(parameter), Type.STRING);
+    }
+
+}
@@ -0,0 +1,299 @@
+package edu.wisc.ssec.cimss.edex.plugin.probsevere.export;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.raytheon.uf.common.dataplugin.HDF5Util;
+import com.raytheon.uf.common.datastorage.DataStoreFactory;
+import com.raytheon.uf.common.datastorage.IDataStore;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.common.time.util.TimeUtil;
+import com.raytheon.uf.edex.database.plugin.PluginDao;
+import com.raytheon.uf.edex.database.plugin.PluginFactory;
+import com.raytheon.uf.edex.database.query.DatabaseQuery;
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.Polygon;
+import com.vividsolutions.jts.io.ParseException;
+import com.vividsolutions.jts.io.WKTReader;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Export Service
+ *
+ * Streams stored ProbSevere frames for a time range back out as a GeoJSON
+ * feature collection or as newline delimited GeoJSON features. Frames are
+ * read from the data store one at a time and each feature is written as soon
+ * as it is rebuilt, so memory use does not grow with the size of the export.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Added source parameter.
+ * Oct 19, 2026             cimss       Export the default source unless a
+ *                                      source is requested.
+ * Oct 19, 2026             cimss       Query only the valid times of the
+ *                                      exported frames.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereExportService {
+
+    private static final IUFStatusHandler statusHandler = UFStatus.getHandler(ProbSevereExportService.class);
+
+    public static final String FORMAT_GEOJSON = "geojson";
+
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    // Longest time range a single export may cover
+    private static final long MAX_RANGE = Long.getLong("probsevere.export.max.hours", 24L).longValue()
+            * TimeUtil.MILLIS_PER_HOUR;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    /**
+     * Handles an export request from the export route. The start and end
+     * query parameters are ISO-8601 instants or epoch milliseconds, format is
+     * geojson or ndjson, gzip requests a compressed response and source selects
+     * the feed, the default source if none is given.
+     *
+     * @param exchange http exchange
+     * @throws Exception
+     */
+    public void export(Exchange exchange) throws Exception {
+        Message in = exchange.getIn();
+        HttpServletResponse response = in.getHeader(Exchange.HTTP_SERVLET_RESPONSE, HttpServletResponse.class);
+        Date start;
+        Date end;
+        try {
+            end = parseTime(in.getHeader("end", String.class), new Date());
+            start = parseTime(in.getHeader("start", String.class),
+                    new Date(end.getTime() - TimeUtil.MILLIS_PER_HOUR));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid export time: " + e.getMessage());
+            in.setBody(null);
+            return;
+        }
+        boolean ndjson = FORMAT_NDJSON.equalsIgnoreCase(in.getHeader("format", String.class));
+        boolean gzip = Boolean.parseBoolean(in.getHeader("gzip", String.class));
+        String source = in.getHeader("source", String.class);
+
+        if (end.before(start) || end.getTime() - start.getTime() > MAX_RANGE) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST,
+                    "Export range must be positive and no longer than " + MAX_RANGE / TimeUtil.MILLIS_PER_HOUR
+                            + " hours");
+            in.setBody(null);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(ndjson ? "application/x-ndjson" : "application/geo+json");
+        if (gzip) {
+            response.setHeader("Content-Encoding", "gzip");
+        }
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            out = new GZIPOutputStream(out, 8192);
+        }
+        int count = export(out, start, end, source, ndjson);
+        out.close();
+        in.setBody(null);
+        statusHandler.info("Exported " + count + " ProbSevere features from " + start + " to " + end);
+    }
+
+    /**
+     * Writes every stored feature valid within a time range to a stream
+     *
+     * @param out stream to write to, left open
+     * @param start of the time range
+     * @param end of the time range
+     * @param source to export, null for the default source
+     * @param ndjson true for one feature per line, false for a feature collection
+     * @return number of features written
+     * @throws Exception
+     */
+    public int export(OutputStream out, Date start, Date end, String source, boolean ndjson) throws Exception {
+        int count = 0;
+        JsonGenerator gen = jsonFactory.createGenerator(out, JsonEncoding.UTF8);
+        gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        gen.setRootValueSeparator(null);
+        if (!ndjson) {
+            gen.writeStartObject();
+            gen.writeStringField("type", "FeatureCollection");
+            gen.writeArrayFieldStart("features");
+        }
+
+        WKTReader reader = new WKTReader();
+        for (String dataURI : findDataURIs(start, end, source)) {
+            ProbSevereRecord record = new ProbSevereRecord(dataURI);
+            try {
+                File f = HDF5Util.findHDF5Location(record);
+                IDataStore ds = DataStoreFactory.getDataStore(f);
+                record.retrieveFromDataStore(ds);
+            } catch (Exception e) {
+                statusHandler.warn("Skipping unreadable ProbSevere frame " + dataURI, e);
+                continue;
+            }
+            if (!record.isRecordComplete()) {
+                continue;
+            }
+            String validTime = record.getDataTime().getRefTime().toInstant().toString();
+            for (int i = 0; i < record.getPolygons().length; i++) {
+                writeFeature(gen, reader, record, validTime, i);
+                if (ndjson) {
+                    gen.writeRaw('\n');
+                }
+                count++;
+            }
+            gen.flush();
+        }
+
+        if (!ndjson) {
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+        gen.close();
+        return count;
+    }
+
+    /**
+     * Finds the data URIs of the frames within a time range, oldest first
+     *
+     * @param start of the time range
+     * @param end of the time range
+     * @param source to find, null for the default source
+     * @return data URIs
+     * @throws Exception
+     */
+    private List<String> findDataURIs(Date start, Date end, String source) throws Exception {
+        // Derived sources are only exported when requested by name
+        String exportSource = source != null && !source.isEmpty() ? source : ProbSevereRecord.DEFAULT_SOURCE;
+        PluginDao dao = PluginFactory.getInstance().getPluginDao(ProbSevereRecord.PLUGIN_NAME);
+        DatabaseQuery query = new DatabaseQuery(ProbSevereRecord.class);
+        query.addReturnedField("dataTime.refTime");
+        query.addQueryParam("dataTime.refTime", start, ">=");
+        query.addQueryParam("dataTime.refTime", end, "<=");
+        query.addQueryParam("source", exportSource);
+        query.addOrder("dataTime.refTime", true);
+        List<String> dataURIs = new ArrayList<String>();
+        for (Object result : dao.queryByCriteria(query)) {
+            dataURIs.add(ProbSevereRecord.createDataURI(exportSource, (Date) result));
+        }
+        return dataURIs;
+    }
+
+    /**
+     * Writes one feature of a frame in the layout of the original input
+     */
+    private void writeFeature(JsonGenerator gen, WKTReader reader, ProbSevereRecord record, String validTime, int i)
+            throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("type", "Feature");
+
+        gen.writeFieldName("geometry");
+        try {
+            writeGeometry(gen, reader.read(record.getPolygons()[i]));
+        } catch (ParseException e) {
+            gen.writeNull();
+        }
+
+        gen.writeObjectFieldStart("properties");
+        gen.writeStringField("validTime", validTime);
+        writeProps(gen, ProbSevereRecord.createPropsMap(record.getPropertiesKeys()[i], record.getProperties()[i]));
+        gen.writeEndObject();
+
+        gen.writeObjectFieldStart("models");
+        for (String modelType : ProbSevereRecord.getModelTypes()) {
+            gen.writeObjectFieldStart(modelType);
+            writeProps(gen, ProbSevereRecord.createPropsMap(record.getModelKeys(modelType)[i],
+                    record.getModelProps(modelType)[i]));
+            gen.writeEndObject();
+        }
+        gen.writeEndObject();
+
+        gen.writeEndObject();
+    }
+
+    private void writeProps(JsonGenerator gen, Map<String, String> props) throws IOException {
+        for (Map.Entry<String, String> entry : props.entrySet()) {
+            gen.writeStringField(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void writeGeometry(JsonGenerator gen, Geometry geom) throws IOException {
+        gen.writeStartObject();
+        if (geom instanceof Polygon) {
+            gen.writeStringField("type", "Polygon");
+            gen.writeFieldName("coordinates");
+            writePolygon(gen, (Polygon) geom);
+        } else {
+            gen.writeStringField("type", "MultiPolygon");
+            gen.writeArrayFieldStart("coordinates");
+            for (int n = 0; n < geom.getNumGeometries(); n++) {
+                if (geom.getGeometryN(n) instanceof Polygon) {
+                    writePolygon(gen, (Polygon) geom.getGeometryN(n));
+                }
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+
+    private void writePolygon(JsonGenerator gen, Polygon polygon) throws IOException {
+        gen.writeStartArray();
+        writeRing(gen, polygon.getExteriorRing().getCoordinates());
+        for (int n = 0; n < polygon.getNumInteriorRing(); n++) {
+            writeRing(gen, polygon.getInteriorRingN(n).getCoordinates());
+        }
+        gen.writeEndArray();
+    }
+
+    private void writeRing(JsonGenerator gen, Coordinate[] coords) throws IOException {
+        gen.writeStartArray();
+        for (Coordinate c : coords) {
+            gen.writeStartArray();
+            gen.writeNumber(c.x);
+            gen.writeNumber(c.y);
+            gen.writeEndArray();
+        }
+        gen.writeEndArray();
+    }
+
+    /**
+     * Parses an ISO-8601 instant or epoch milliseconds
+     */
+    private Date parseTime(String value, Date defaultTime) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultTime;
+        }
+        value = value.trim();
+        if (value.matches("\\d+")) {
+            return new Date(Long.parseLong(value));
+        }
+        return Date.from(Instant.parse(value));
+    }
+
+}
@@ -0,0 +1,162 @@
+package edu.wisc.ssec.cimss.edex.plugin.probsevere.handler;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.raytheon.uf.common.serialization.comm.IRequestHandler;
+import com.raytheon.uf.common.time.util.TimeUtil;
+import com.raytheon.uf.edex.database.plugin.PluginDao;
+import com.raytheon.uf.edex.database.plugin.PluginFactory;
+import com.raytheon.uf.edex.database.query.DatabaseQuery;
+import com.vividsolutions.jts.geom.Envelope;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.request.ProbSevereFeature;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.request.ProbSevereFeatureRequest;
+import edu.wisc.ssec.cimss.edex.plugin.probsevere.cache.ProbSevereFrame;
+import edu.wisc.ssec.cimss.edex.plugin.probsevere.cache.ProbSevereFrameCache;
+import edu.wisc.ssec.cimss.edex.plugin.probsevere.dao.ProbSevereFeatureDao;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Feature Request Handler
+ *
+ * Answers feature requests using the feature index of each cached frame, so
+ * only the matching features are decoded and returned. Requests for a valid
+ * time or time range first search the per-feature rows written at ingest,
+ * so only the frames holding a candidate feature are read. Derived sources,
+ * which have no feature rows, and requests for the latest frame read the
+ * frames directly. A time range is limited to the number of hours set with
+ * the probsevere.feature.max.hours system property, an open end of the
+ * range is closed at that limit.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Limit searches to a source.
+ * Oct 19, 2026             cimss       Limit time ranges and reject unknown
+ *                                      model types.
+ * Oct 19, 2026             cimss       Search the default source unless a
+ *                                      source is requested.
+ * Oct 19, 2026             cimss       Unpack each frame once.
+ * Oct 19, 2026             cimss       Find the frames holding candidate
+ *                                      features from the per-feature rows.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereFeatureRequestHandler implements IRequestHandler<ProbSevereFeatureRequest> {
+
+    // Longest time range a single request may cover
+    private static final long MAX_RANGE = Long.getLong("probsevere.feature.max.hours", 24L).longValue()
+            * TimeUtil.MILLIS_PER_HOUR;
+
+    /**
+     * @see com.raytheon.uf.common.serialization.comm.IRequestHandler#handleRequest(com.raytheon.uf.common.serialization.comm.IServerRequest)
+     */
+    @Override
+    public Object handleRequest(ProbSevereFeatureRequest request) throws Exception {
+        if (request.getModelType() != null && !ProbSevereRecord.isModelType(request.getModelType())) {
+            throw new IllegalArgumentException("Unknown ProbSevere model type: " + request.getModelType());
+        }
+        List<ProbSevereFeature> features = new ArrayList<ProbSevereFeature>();
+        Envelope envelope = request.createEnvelope();
+        for (String dataURI : findDataURIs(request, envelope)) {
+            ProbSevereFrame frame = ProbSevereFrameCache.getInstance().getFrame(dataURI);
+            List<Integer> matches = frame.getIndex().query(envelope, request.isPointQuery(),
+                    request.getModelType(), request.getMinProbability());
+            if (matches.isEmpty()) {
+                continue;
+            }
+            ProbSevereRecord frameRecord = frame.getRecord();
+            for (Integer i : matches) {
+                features.add(createFeature(frameRecord, dataURI, i.intValue()));
+            }
+        }
+        return features;
+    }
+
+    /**
+     * Finds the frames to search for the requested valid time or time range,
+     * or the latest frame if no time was requested
+     *
+     * @param feature request
+     * @param lon/lat envelope of the request
+     * @return data URIs of the frames in ascending time order
+     * @throws IllegalArgumentException if the time range is too long
+     * @throws Exception
+     */
+    private List<String> findDataURIs(ProbSevereFeatureRequest request, Envelope envelope) throws Exception {
+        // Derived sources are only searched when requested by name
+        String source = request.getSource() != null ? request.getSource() : ProbSevereRecord.DEFAULT_SOURCE;
+        Date start = request.getRefTime();
+        Date end = request.getRefTime();
+        if (start == null && (request.getStartTime() != null || request.getEndTime() != null)) {
+            start = request.getStartTime();
+            end = request.getEndTime();
+            if (start == null) {
+                start = new Date(end.getTime() - MAX_RANGE);
+            } else if (end == null) {
+                end = new Date(start.getTime() + MAX_RANGE);
+            }
+            if (end.before(start) || end.getTime() - start.getTime() > MAX_RANGE) {
+                throw new IllegalArgumentException("Feature time range must be positive and no longer than "
+                        + MAX_RANGE / TimeUtil.MILLIS_PER_HOUR + " hours");
+            }
+        }
+
+        List<String> dataURIs = new ArrayList<String>();
+        if (start != null && !source.endsWith(ProbSevereRecord.SWATH_SOURCE_SUFFIX)) {
+            for (Date refTime : new ProbSevereFeatureDao().getFeatureTimes(source, start, end, envelope,
+                    request.getModelType(), request.getMinProbability())) {
+                dataURIs.add(ProbSevereRecord.createDataURI(source, refTime));
+            }
+            return dataURIs;
+        }
+
+        PluginDao dao = PluginFactory.getInstance().getPluginDao(ProbSevereRecord.PLUGIN_NAME);
+        DatabaseQuery query = new DatabaseQuery(ProbSevereRecord.class);
+        query.addQueryParam("source", source);
+        if (start != null) {
+            query.addQueryParam("dataTime.refTime", start, ">=");
+            query.addQueryParam("dataTime.refTime", end, "<=");
+            query.addOrder("dataTime.refTime", true);
+        } else {
+            query.addOrder("dataTime.refTime", false);
+            query.setMaxResults(1);
+        }
+        for (Object result : dao.queryByCriteria(query)) {
+            dataURIs.add(((ProbSevereRecord) result).getDataURI());
+        }
+        return dataURIs;
+    }
+
+    private ProbSevereFeature createFeature(ProbSevereRecord record, String dataURI, int i) {
+        ProbSevereFeature feature = new ProbSevereFeature();
+        feature.setDataURI(dataURI);
+        feature.setRefTime(record.getDataTime().getRefTime());
+        feature.setPolygon(record.getPolygons()[i]);
+        Map<String, String> properties = ProbSevereRecord.createPropsMap(record.getPropertiesKeys()[i],
+                record.getProperties()[i]);
+        feature.setProperties(properties);
+        feature.setObjectId(properties.get("ID"));
+        Map<String, Integer> probabilities = new LinkedHashMap<String, Integer>();
+        Map<String, Map<String, String>> modelProperties = new LinkedHashMap<String, Map<String, String>>();
+        for (String modelType : ProbSevereRecord.getModelTypes()) {
+            String keys = record.getModelKeys(modelType)[i];
+            String props = record.getModelProps(modelType)[i];
+            probabilities.put(modelType, Integer.valueOf(ProbSevereRecord.parseProbability(keys, props)));
+            modelProperties.put(modelType, ProbSevereRecord.createPropsMap(keys, props));
+        }
+        feature.setProbabilities(probabilities);
+        feature.setModelProperties(modelProperties);
+        return feature;
+    }
+
+}
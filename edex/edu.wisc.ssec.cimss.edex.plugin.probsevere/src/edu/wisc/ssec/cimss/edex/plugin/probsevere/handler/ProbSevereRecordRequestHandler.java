@@ -0,0 +1,119 @@
+package edu.wisc.ssec.cimss.edex.plugin.probsevere.handler;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import com.raytheon.uf.common.dataplugin.HDF5Util;
+import com.raytheon.uf.common.datastorage.DataStoreFactory;
+import com.raytheon.uf.common.datastorage.IDataStore;
+import com.raytheon.uf.common.serialization.comm.IRequestHandler;
+import com.vividsolutions.jts.geom.Envelope;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereTiling;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.request.ProbSevereRecordRequest;
+import edu.wisc.ssec.cimss.edex.plugin.probsevere.cache.ProbSevereFrame;
+import edu.wisc.ssec.cimss.edex.plugin.probsevere.cache.ProbSevereFrameCache;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Record Request Handler
+ *
+ * Answers record requests from the frame cache, reading the data store only
+ * for frames that are not cached. Requests limited to an extent return only
+ * the intersecting shapes of the frame. A frame stored in tiles that is not
+ * cached is not read whole for an extent request, only its intersecting
+ * tiles are read from the data store.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Answer extent requests from tiles.
+ * Oct 19, 2026             cimss       Read frames that are not tiled through
+ *                                      the frame cache for extent requests.
+ * Oct 19, 2026             cimss       Return the storage groups of the shapes.
+ * Oct 19, 2026             cimss       Take the storage groups from the frame.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereRecordRequestHandler implements IRequestHandler<ProbSevereRecordRequest> {
+
+    /**
+     * @see com.raytheon.uf.common.serialization.comm.IRequestHandler#handleRequest(com.raytheon.uf.common.serialization.comm.IServerRequest)
+     */
+    @Override
+    public Object handleRequest(ProbSevereRecordRequest request) throws Exception {
+        Envelope extent = request.createExtent();
+        if (extent != null) {
+            ProbSevereFrame frame = ProbSevereFrameCache.getInstance().getCachedFrame(request.getDataURI());
+            if (frame == null) {
+                ProbSevereRecord response = new ProbSevereRecord(request.getDataURI());
+                File f = HDF5Util.findHDF5Location(response);
+                IDataStore dataStore = DataStoreFactory.getDataStore(f);
+                if (isTiled(dataStore, request.getDataURI())) {
+                    response.retrieveFromDataStore(dataStore, extent);
+                    return response.packFeatureBlock() ? response : null;
+                }
+                frame = ProbSevereFrameCache.getInstance().getFrame(request.getDataURI());
+            }
+            List<Integer> matches = frame.getIndex().query(extent, false, null, 0);
+            byte[] block = frame.getRecord().createFeatureBlock(matches);
+            if (block == null) {
+                return null;
+            }
+            ProbSevereRecord response = new ProbSevereRecord(request.getDataURI());
+            response.setFeatureBlock(block);
+            setStorage(response, frame, matches);
+            return response;
+        }
+        ProbSevereFrame frame = ProbSevereFrameCache.getInstance().getFrame(request.getDataURI());
+        if (frame.getFeatureBlock() == null) {
+            return null;
+        }
+        ProbSevereRecord response = new ProbSevereRecord(request.getDataURI());
+        response.setFeatureBlock(frame.getFeatureBlock());
+        response.setStorageGroups(frame.getStorageGroups());
+        response.setStorageIndices(frame.getStorageIndices());
+        return response;
+    }
+
+    /**
+     * Sets where the shapes of a response holding some shapes of a frame are
+     * stored, so the client can read their simplified polygons
+     *
+     * @param response record
+     * @param cached frame
+     * @param indices of the response shapes within the frame
+     */
+    private void setStorage(ProbSevereRecord response, ProbSevereFrame frame, List<Integer> matches) {
+        if (frame.getStorageGroups() == null) {
+            return;
+        }
+        int[] recordIndices = frame.getStorageIndices();
+        int[] indices = new int[matches.size()];
+        for (int n = 0; n < indices.length; n++) {
+            int i = matches.get(n).intValue();
+            indices[n] = recordIndices == null ? i : recordIndices[i];
+        }
+        response.setStorageGroups(frame.getStorageGroups());
+        response.setStorageIndices(indices);
+    }
+
+    /**
+     * Determines if a record was stored in tiles without reading its data
+     *
+     * @param data store of the record
+     * @param data URI of the record
+     * @return true if the record group holds the tile keys
+     * @throws Exception
+     */
+    private boolean isTiled(IDataStore dataStore, String dataURI) throws Exception {
+        return Arrays.asList(dataStore.getDatasets(dataURI)).contains(ProbSevereTiling.TILE_KEYS);
+    }
+
+}
@@ -0,0 +1,84 @@
+package edu.wisc.ssec.cimss.edex.plugin.probsevere.handler;
+
+import java.util.List;
+
+import com.raytheon.uf.common.serialization.comm.IRequestHandler;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereFeatureRecord;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereTrackRecord;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.request.ProbSevereTrack;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.request.ProbSevereTrackRequest;
+import edu.wisc.ssec.cimss.edex.plugin.probsevere.dao.ProbSevereTrackDao;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Track Request Handler
+ *
+ * Answers track requests with the track summary and the indexed feature
+ * rows of the requested object
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Look up tracks by source.
+ * Oct 19, 2026             cimss       Return the source and frame count.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereTrackRequestHandler implements IRequestHandler<ProbSevereTrackRequest> {
+
+    /**
+     * @see com.raytheon.uf.common.serialization.comm.IRequestHandler#handleRequest(com.raytheon.uf.common.serialization.comm.IServerRequest)
+     */
+    @Override
+    public Object handleRequest(ProbSevereTrackRequest request) throws Exception {
+        ProbSevereTrackDao dao = new ProbSevereTrackDao();
+        ProbSevereTrackRecord summary = dao.getTrack(request.getSource(), request.getObjectId());
+        if (summary == null) {
+            return null;
+        }
+        List<ProbSevereFeatureRecord> points = dao.getTrackFeatures(request.getSource(), request.getObjectId());
+        int size = points.size();
+        long[] times = new long[size];
+        int[] severeProbs = new int[size];
+        int[] torProbs = new int[size];
+        int[] hailProbs = new int[size];
+        int[] windProbs = new int[size];
+        float[] centroidLons = new float[size];
+        float[] centroidLats = new float[size];
+        for (int i = 0; i < size; i++) {
+            ProbSevereFeatureRecord point = points.get(i);
+            times[i] = point.getRefTime().getTime();
+            severeProbs[i] = point.getSevereProb();
+            torProbs[i] = point.getTorProb();
+            hailProbs[i] = point.getHailProb();
+            windProbs[i] = point.getWindProb();
+            centroidLons[i] = point.getCentroidLon();
+            centroidLats[i] = point.getCentroidLat();
+        }
+
+        ProbSevereTrack track = new ProbSevereTrack();
+        track.setSource(summary.getSource());
+        track.setObjectId(summary.getObjectId());
+        track.setFirstTime(summary.getFirstTime().getTime());
+        track.setLastTime(summary.getLastTime().getTime());
+        track.setFrameCount(summary.getFrameCount());
+        track.setMaxSevereProb(summary.getMaxSevereProb());
+        track.setMaxTorProb(summary.getMaxTorProb());
+        track.setMaxHailProb(summary.getMaxHailProb());
+        track.setMaxWindProb(summary.getMaxWindProb());
+        track.setTimes(times);
+        track.setSevereProbs(severeProbs);
+        track.setTorProbs(torProbs);
+        track.setHailProbs(hailProbs);
+        track.setWindProbs(windProbs);
+        track.setCentroidLons(centroidLons);
+        track.setCentroidLats(centroidLats);
+        return track;
+    }
+
+}
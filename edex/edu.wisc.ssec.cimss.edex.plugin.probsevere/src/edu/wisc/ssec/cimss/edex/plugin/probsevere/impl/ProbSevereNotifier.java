@@ -0,0 +1,87 @@
+package edu.wisc.ssec.cimss.edex.plugin.probsevere.impl;
+
+import java.util.List;
+
+import com.raytheon.uf.common.serialization.SerializationUtil;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.edex.core.EDEXUtil;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+import edu.wisc.ssec.cimss.edex.plugin.probsevere.IProbSevereIngestListener;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Record Notifier
+ *
+ * Publishes newly persisted records with their packed feature block so
+ * display clients can show the newest frame without reading the data store.
+ * Disabled unless the probsevere.notification.payload system property is set.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereNotifier implements IProbSevereIngestListener {
+
+    private static final IUFStatusHandler statusHandler = UFStatus.getHandler(ProbSevereNotifier.class);
+
+    private boolean enabled = Boolean.getBoolean("probsevere.notification.payload");
+
+    private String topicUri = "jms-generic:topic:" + ProbSevereRecord.NOTIFICATION_TOPIC + "?timeToLive=60000";
+
+    /**
+     * Default empty constructor
+     */
+    public ProbSevereNotifier() {
+    }
+
+    /**
+     * @see edu.wisc.ssec.cimss.edex.plugin.probsevere.IProbSevereIngestListener#recordsPersisted(java.util.List)
+     */
+    @Override
+    public void recordsPersisted(List<ProbSevereRecord> records) {
+        if (!enabled) {
+            return;
+        }
+        for (ProbSevereRecord record : records) {
+            if (record.packFeatureBlock()) {
+                try {
+                    EDEXUtil.getMessageProducer().sendAsyncUri(topicUri,
+                            SerializationUtil.transformToThrift(record));
+                } catch (Exception e) {
+                    statusHandler.error("Problem sending ProbSevere notification payload for: "
+                            + record.getDataURI(), e);
+                } finally {
+                    // Block is only needed for the message, do not keep a second copy
+                    record.setFeatureBlock(null);
+                }
+            }
+        }
+    }
+
+    /**
+     * Determines if notification payloads are sent
+     *
+     * @return boolean
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Set whether notification payloads are sent
+     *
+     * @param boolean
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+}
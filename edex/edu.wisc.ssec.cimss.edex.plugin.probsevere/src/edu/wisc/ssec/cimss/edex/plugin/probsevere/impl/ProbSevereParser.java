@@ -8,11 +8,14 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
 
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
 import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereGeometry;
 import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereModelType;
 import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereObject;
@@ -36,6 +39,7 @@ import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereShape;
  * Jul 23, 2019 DR 21469    lcronce     Repairing issue where legacy *CONVECTPROB* 
  *                                      ascii files will not decode correctly within
  *                                      ProbSevereParser(File file) constructor.
+ * Oct 19, 2026             cimss       Determine the source of each data file.
  * </pre
  *
  * @author Lee Cronce
@@ -48,6 +52,13 @@ public class ProbSevereParser {
 
     public ProbSevereObject psObject;
 
+    // Domain token between the product name and the valid time of a file name
+    private static final Pattern SOURCE_PATTERN = Pattern.compile("(?:PROBSEVERE|CONVECTPROB)_(.+?)_\\d{8}_\\d{6}",
+            Pattern.CASE_INSENSITIVE);
+
+    // Longest source that fits the source column
+    private static final int MAX_SOURCE_LENGTH = 32;
+
     /**
      * Default empty constructor
      */
@@ -76,6 +87,46 @@ public class ProbSevereParser {
 
         }
 
+        if (psObject != null) {
+
+            psObject.setSource(findSource(file, psObject.getSource()));
+
+        }
+
+    }
+
+    /**
+     * Determines the feed or domain of a data file. A source named in the
+     * data file is used first, then a domain token in the file name between
+     * the product name and the valid time, such as AK in
+     * MRMS_PROBSEVERE_AK_20190523_150040.json. Files with neither belong to
+     * the default CONUS source.
+     *
+     * @param File object passed on from EDEX
+     * @param source named in the data file, may be null
+     * @return source used in the data URI
+     */
+    private String findSource(File file, String namedSource) {
+
+        String source = namedSource;
+
+        if (source == null || source.trim().isEmpty()) {
+
+            Matcher matcher = SOURCE_PATTERN.matcher(file.getName());
+            source = matcher.find() ? matcher.group(1) : null;
+
+        }
+
+        if (source == null || source.trim().isEmpty()) {
+
+            return ProbSevereRecord.DEFAULT_SOURCE;
+
+        }
+
+        source = source.trim().toLowerCase().replaceAll("[^a-z0-9_-]", "_");
+
+        return source.length() > MAX_SOURCE_LENGTH ? source.substring(0, MAX_SOURCE_LENGTH) : source;
+
     }
 
     /**
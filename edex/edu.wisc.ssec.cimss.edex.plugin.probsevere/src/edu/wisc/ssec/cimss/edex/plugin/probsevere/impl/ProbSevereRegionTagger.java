@@ -0,0 +1,235 @@
+package edu.wisc.ssec.cimss.edex.plugin.probsevere.impl;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.raytheon.uf.common.localization.ILocalizationFile;
+import com.raytheon.uf.common.localization.ILocalizationPathObserver;
+import com.raytheon.uf.common.localization.IPathManager;
+import com.raytheon.uf.common.localization.LocalizationFile;
+import com.raytheon.uf.common.localization.PathManagerFactory;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.GeometryFactory;
+import com.vividsolutions.jts.geom.Point;
+import com.vividsolutions.jts.geom.prep.PreparedGeometry;
+import com.vividsolutions.jts.geom.prep.PreparedGeometryFactory;
+import com.vividsolutions.jts.index.strtree.STRtree;
+import com.vividsolutions.jts.io.WKTReader;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereObject;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereShape;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Region Tagger
+ *
+ * Tags each shape of a decoded object with the IDs of the regions it
+ * overlaps, so area questions become key lookups instead of point in polygon
+ * work in every client. Regions are read from the common_static localization
+ * directory probsevere/regions, one file per region type. The upper cased
+ * file name without extension is the property key (cwa.txt sets CWA) and
+ * each line holds ID|WKT, with blank lines and lines starting with # ignored.
+ * Matching IDs are joined with commas, the region holding the shape centroid
+ * first. The regions are read again when the localization files change.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereRegionTagger {
+
+    private static final IUFStatusHandler statusHandler = UFStatus.getHandler(ProbSevereRegionTagger.class);
+
+    public static final String REGIONS_DIR = "probsevere" + IPathManager.SEPARATOR + "regions";
+
+    private static final String REGIONS_EXT = ".txt";
+
+    private static final ProbSevereRegionTagger instance = new ProbSevereRegionTagger();
+
+    private final GeometryFactory geometryFactory = new GeometryFactory();
+
+    // Region index of each region type, null until first read
+    private volatile Map<String, STRtree> regionIndices;
+
+    private ProbSevereRegionTagger() {
+        PathManagerFactory.getPathManager().addLocalizationPathObserver(REGIONS_DIR,
+                new ILocalizationPathObserver() {
+                    @Override
+                    public void fileChanged(ILocalizationFile file) {
+                        regionIndices = null;
+                    }
+                });
+    }
+
+    /**
+     * Retrieve the tagger instance
+     *
+     * @return tagger instance
+     */
+    public static ProbSevereRegionTagger getInstance() {
+        return instance;
+    }
+
+    /**
+     * Adds the region IDs of each shape to its properties
+     *
+     * @param decoded ProbSevere object
+     */
+    public void tag(ProbSevereObject psObject) {
+        Map<String, STRtree> indices = getRegionIndices();
+        if (indices.isEmpty()) {
+            return;
+        }
+        for (ProbSevereShape shape : psObject.getFeatures()) {
+            Geometry geom = createGeometry(shape);
+            if (geom == null || shape.getProperties() == null) {
+                continue;
+            }
+            Point centroid = geom.getCentroid();
+            for (Map.Entry<String, STRtree> entry : indices.entrySet()) {
+                Set<String> ids = new LinkedHashSet<String>();
+                List<String> others = new ArrayList<String>();
+                for (Object item : entry.getValue().query(geom.getEnvelopeInternal())) {
+                    Region region = (Region) item;
+                    if (region.geometry.contains(centroid)) {
+                        ids.add(region.id);
+                    } else if (region.geometry.intersects(geom)) {
+                        others.add(region.id);
+                    }
+                }
+                Collections.sort(others);
+                ids.addAll(others);
+                if (!ids.isEmpty()) {
+                    StringBuilder value = new StringBuilder();
+                    for (String id : ids) {
+                        if (value.length() > 0) {
+                            value.append(",");
+                        }
+                        value.append(id);
+                    }
+                    shape.getProperties().put(entry.getKey(), value.toString());
+                }
+            }
+        }
+    }
+
+    private Geometry createGeometry(ProbSevereShape shape) {
+        if (shape.getGeometry() == null || shape.getGeometry().getCoordinates() == null
+                || shape.getGeometry().getCoordinates().length == 0) {
+            return null;
+        }
+        float[][] ring = shape.getGeometry().getCoordinates()[0];
+        if (ring.length < 4) {
+            return null;
+        }
+        Coordinate[] coords = new Coordinate[ring.length];
+        for (int i = 0; i < ring.length; i++) {
+            coords[i] = new Coordinate(ring[i][0], ring[i][1]);
+        }
+        try {
+            return geometryFactory.createPolygon(coords);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private Map<String, STRtree> getRegionIndices() {
+        Map<String, STRtree> indices = regionIndices;
+        if (indices == null) {
+            synchronized (this) {
+                indices = regionIndices;
+                if (indices == null) {
+                    indices = loadRegions();
+                    regionIndices = indices;
+                }
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Reads every region file into one index per region type
+     *
+     * @return region indices keyed by property key
+     */
+    private Map<String, STRtree> loadRegions() {
+        Map<String, STRtree> indices = new LinkedHashMap<String, STRtree>();
+        LocalizationFile[] files = PathManagerFactory.getPathManager().listStaticFiles(REGIONS_DIR,
+                new String[] { REGIONS_EXT }, false, true);
+        WKTReader reader = new WKTReader();
+        for (LocalizationFile file : files) {
+            String name = file.getPath().substring(file.getPath().lastIndexOf(IPathManager.SEPARATOR) + 1);
+            String key = name.substring(0, name.length() - REGIONS_EXT.length()).toUpperCase();
+            STRtree index = new STRtree();
+            int count = 0;
+            try (InputStream is = file.openInputStream();
+                    BufferedReader in = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    line = line.trim();
+                    if (line.isEmpty() || line.startsWith("#")) {
+                        continue;
+                    }
+                    int split = line.indexOf('|');
+                    if (split <= 0) {
+                        statusHandler.warn("Ignoring ProbSevere region line without an ID in " + file + ": " + line);
+                        continue;
+                    }
+                    try {
+                        Geometry geom = reader.read(line.substring(split + 1));
+                        index.insert(geom.getEnvelopeInternal(),
+                                new Region(line.substring(0, split).trim(), PreparedGeometryFactory.prepare(geom)));
+                        count++;
+                    } catch (Exception e) {
+                        statusHandler.warn("Ignoring ProbSevere region with invalid geometry in " + file + ": "
+                                + line.substring(0, split), e);
+                    }
+                }
+            } catch (Exception e) {
+                statusHandler.error("Problem reading ProbSevere regions from " + file, e);
+                continue;
+            }
+            if (count > 0) {
+                index.build();
+                indices.put(key, index);
+                statusHandler.info("Loaded " + count + " ProbSevere " + key + " regions");
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Region ID with its prepared geometry
+     */
+    private static class Region {
+
+        private final String id;
+
+        private final PreparedGeometry geometry;
+
+        private Region(String id, PreparedGeometry geometry) {
+            this.id = id;
+            this.geometry = geometry;
+        }
+
+    }
+
+}
@@ -0,0 +1,412 @@
+package edu.wisc.ssec.cimss.edex.plugin.probsevere.swath;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.raytheon.uf.common.dataplugin.PluginDataObject;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.common.time.DataTime;
+import com.raytheon.uf.common.time.util.TimeUtil;
+import com.raytheon.uf.edex.core.EDEXUtil;
+import com.raytheon.uf.edex.database.plugin.PluginDao;
+import com.raytheon.uf.edex.database.plugin.PluginFactory;
+import com.raytheon.uf.edex.database.query.DatabaseQuery;
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.LineString;
+import com.vividsolutions.jts.geom.Polygon;
+import com.vividsolutions.jts.io.WKTReader;
+import com.vividsolutions.jts.operation.union.UnaryUnionOp;
+import com.vividsolutions.jts.simplify.TopologyPreservingSimplifier;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereGeometry;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereModelType;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereObject;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereShape;
+import edu.wisc.ssec.cimss.edex.plugin.probsevere.IProbSevereIngestListener;
+import edu.wisc.ssec.cimss.edex.plugin.probsevere.cache.ProbSevereFrameCache;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Swath Generator
+ *
+ * Keeps rolling swaths of the area covered by each model at or above each
+ * probability band over the last N minutes, and stores them as a record of
+ * the derived source feed + "-swath" at the valid time of each new frame.
+ * Each frame is reduced to one union per model and band when it arrives. A
+ * new frame is added to the previous swath with a single union, and the
+ * swath is only rebuilt from the per-frame unions when a frame expires out of
+ * the window. Frames of a source may be ingested by any node of the cluster,
+ * so before each update the window is completed with the stored frames of
+ * the source it does not hold yet. The ingest thread only queues persisted
+ * frames, the swath route consumer does the unions, and each update of a
+ * source holds the lock of its window from start to end so frames of one
+ * source are applied one at a time. A swath record is displayed like any
+ * other frame, with the band as the probability of the owning model and -1
+ * for the other models.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Complete the window with frames stored
+ *                                      by other nodes, lock each source on its
+ *                                      own and read frames outside the lock.
+ * Oct 19, 2026             cimss       Build swaths on the swath route rather
+ *                                      than the ingest thread, one update of a
+ *                                      source at a time.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereSwathGenerator implements IProbSevereIngestListener {
+
+    private static final IUFStatusHandler statusHandler = UFStatus.getHandler(ProbSevereSwathGenerator.class);
+
+    // Lower bounds of the probability bands, each swath covers its band and above
+    private static final int[] BANDS = { 10, 30, 50, 70, 90 };
+
+    private static final String[] MODEL_LABELS = { "ProbSevere", "ProbTor", "ProbHail", "ProbWind" };
+
+    // Tolerance in degrees used to thin swath outlines before they are stored
+    private static final double SIMPLIFY_TOLERANCE = 0.005;
+
+    private static final String SWATH_URI = "vm:probsevereSwath";
+
+    private boolean enabled = Boolean.parseBoolean(System.getProperty("probsevere.swath.enabled", "true"));
+
+    private final long minutes = Long.getLong("probsevere.swath.minutes", 60L).longValue();
+
+    private final long window = minutes * TimeUtil.MILLIS_PER_MINUTE;
+
+    // Rolling state of each source feed, each window guarded by itself
+    private final ConcurrentHashMap<String, SwathWindow> windows = new ConcurrentHashMap<String, SwathWindow>();
+
+    /**
+     * Default empty constructor
+     */
+    public ProbSevereSwathGenerator() {
+    }
+
+    /**
+     * Queues persisted frames for the swath route, leaving the unions off
+     * the ingest thread
+     *
+     * @see edu.wisc.ssec.cimss.edex.plugin.probsevere.IProbSevereIngestListener#recordsPersisted(java.util.List)
+     */
+    @Override
+    public void recordsPersisted(List<ProbSevereRecord> records) {
+        if (!enabled) {
+            return;
+        }
+        List<PluginDataObject> frames = new ArrayList<PluginDataObject>(records.size());
+        for (ProbSevereRecord record : records) {
+            if (!record.isDerived() && record.getDataArrays() != null && record.isRecordComplete()) {
+                frames.add(record);
+            }
+        }
+        if (frames.isEmpty()) {
+            return;
+        }
+        try {
+            EDEXUtil.getMessageProducer().sendAsyncUri(SWATH_URI,
+                    frames.toArray(new PluginDataObject[frames.size()]));
+        } catch (Exception e) {
+            statusHandler.error("Problem queueing ProbSevere frames for swaths", e);
+        }
+    }
+
+    /**
+     * Adds queued frames to the window of their source and builds the swath
+     * records ending at each of them. Called by the swath route.
+     *
+     * @param persisted frames
+     * @return swath records to persist
+     */
+    public PluginDataObject[] createSwaths(PluginDataObject[] records) {
+        List<PluginDataObject> swathRecords = new ArrayList<PluginDataObject>();
+        for (PluginDataObject pdo : records) {
+            if (!(pdo instanceof ProbSevereRecord)) {
+                continue;
+            }
+            ProbSevereRecord record = (ProbSevereRecord) pdo;
+            try {
+                SwathWindow swathWindow = getWindow(record.getSource());
+                long refTime = record.getDataTime().getRefTime().getTime();
+                Geometry[][] swaths;
+                // Frames of a source are applied in turn so no update misses
+                // another that was read or added concurrently
+                synchronized (swathWindow) {
+                    Map<Long, Geometry[][]> added = loadStoredFrames(swathWindow, record);
+                    added.put(Long.valueOf(refTime), createFrameBands(record));
+                    for (Map.Entry<Long, Geometry[][]> entry : added.entrySet()) {
+                        swathWindow.add(entry.getKey().longValue(), entry.getValue());
+                    }
+                    swaths = swathWindow.getSwaths(refTime);
+                }
+                ProbSevereRecord swath = createSwathRecord(record, swaths);
+                if (swath != null) {
+                    swathRecords.add(swath);
+                }
+            } catch (Exception e) {
+                statusHandler.error("Problem updating ProbSevere swaths for: " + record.getDataURI(), e);
+            }
+        }
+        return swathRecords.toArray(new PluginDataObject[swathRecords.size()]);
+    }
+
+    private SwathWindow getWindow(String source) {
+        SwathWindow swathWindow = windows.get(source);
+        if (swathWindow == null) {
+            SwathWindow created = new SwathWindow();
+            swathWindow = windows.putIfAbsent(source, created);
+            if (swathWindow == null) {
+                swathWindow = created;
+            }
+        }
+        return swathWindow;
+    }
+
+    /**
+     * Reduces the stored frames within the window before a record that the
+     * window does not hold, which covers a restart and frames ingested by
+     * other nodes
+     *
+     * @param window of the record source, locked by the caller
+     * @param record received
+     * @return band unions of the missing frames keyed by valid time
+     */
+    private Map<Long, Geometry[][]> loadStoredFrames(SwathWindow swathWindow, ProbSevereRecord record) {
+        Map<Long, Geometry[][]> loaded = new HashMap<Long, Geometry[][]>();
+        Set<Long> held = swathWindow.frames.keySet();
+        Date refTime = record.getDataTime().getRefTime();
+        try {
+            PluginDao dao = PluginFactory.getInstance().getPluginDao(ProbSevereRecord.PLUGIN_NAME);
+            DatabaseQuery query = new DatabaseQuery(ProbSevereRecord.class);
+            query.addQueryParam("source", record.getSource());
+            query.addQueryParam("dataTime.refTime", new Date(refTime.getTime() - window), ">");
+            query.addQueryParam("dataTime.refTime", refTime, "<");
+            for (Object result : dao.queryByCriteria(query)) {
+                ProbSevereRecord stored = (ProbSevereRecord) result;
+                Long storedTime = Long.valueOf(stored.getDataTime().getRefTime().getTime());
+                if (held.contains(storedTime)) {
+                    continue;
+                }
+                ProbSevereRecord frame = ProbSevereFrameCache.getInstance().getFrame(stored.getDataURI()).getRecord();
+                loaded.put(storedTime, createFrameBands(frame));
+            }
+        } catch (Exception e) {
+            statusHandler.warn("Unable to read stored ProbSevere frames for swaths of source " + record.getSource(),
+                    e);
+        }
+        return loaded;
+    }
+
+    /**
+     * Reduces a frame to the union of its shapes at or above each band of
+     * each model
+     *
+     * @param complete record
+     * @return unions indexed by model then band, null where no shape qualifies
+     */
+    private Geometry[][] createFrameBands(ProbSevereRecord record) {
+        String[] polygons = record.getPolygons();
+        Geometry[] geoms = new Geometry[polygons.length];
+        WKTReader reader = new WKTReader();
+        for (int i = 0; i < polygons.length; i++) {
+            try {
+                geoms[i] = reader.read(polygons[i]);
+            } catch (Exception e) {
+                geoms[i] = null;
+            }
+        }
+        List<String> modelTypes = ProbSevereRecord.getModelTypes();
+        Geometry[][] bands = new Geometry[modelTypes.size()][BANDS.length];
+        for (int m = 0; m < modelTypes.size(); m++) {
+            int[] probabilities = record.getModelProbabilities(modelTypes.get(m));
+            for (int b = 0; b < BANDS.length; b++) {
+                List<Geometry> members = new ArrayList<Geometry>();
+                for (int i = 0; i < geoms.length; i++) {
+                    if (geoms[i] != null && probabilities[i] >= BANDS[b]) {
+                        members.add(geoms[i]);
+                    }
+                }
+                bands[m][b] = members.isEmpty() ? null : UnaryUnionOp.union(members);
+            }
+        }
+        return bands;
+    }
+
+    /**
+     * Creates the swath record for the valid time of a frame
+     *
+     * @param frame that triggered the update
+     * @param swaths indexed by model then band
+     * @return swath record, null if no band has any area
+     */
+    private ProbSevereRecord createSwathRecord(ProbSevereRecord record, Geometry[][] swaths) {
+        List<ProbSevereShape> shapes = new ArrayList<ProbSevereShape>();
+        for (int m = 0; m < swaths.length; m++) {
+            for (int b = 0; b < BANDS.length; b++) {
+                if (swaths[m][b] == null || swaths[m][b].isEmpty()) {
+                    continue;
+                }
+                Geometry outline = TopologyPreservingSimplifier.simplify(swaths[m][b], SIMPLIFY_TOLERANCE);
+                for (int n = 0; n < outline.getNumGeometries(); n++) {
+                    if (!(outline.getGeometryN(n) instanceof Polygon)) {
+                        continue;
+                    }
+                    // Each ring becomes its own shape so outlines are drawn without joining lines
+                    Polygon polygon = (Polygon) outline.getGeometryN(n);
+                    shapes.add(createShape(polygon.getExteriorRing(), m, b));
+                    for (int r = 0; r < polygon.getNumInteriorRing(); r++) {
+                        shapes.add(createShape(polygon.getInteriorRingN(r), m, b));
+                    }
+                }
+            }
+        }
+        if (shapes.isEmpty()) {
+            return null;
+        }
+        ProbSevereObject psObject = new ProbSevereObject();
+        psObject.setSource(record.getSource() + ProbSevereRecord.SWATH_SOURCE_SUFFIX);
+        psObject.setFeatures(shapes);
+        ProbSevereRecord swath = new ProbSevereRecord(psObject);
+        swath.setDataTime(new DataTime(record.getDataTime().getRefTime()));
+        swath.setInsertTime(TimeUtil.newCalendar());
+        return swath;
+    }
+
+    private ProbSevereShape createShape(LineString ring, int model, int band) {
+        Coordinate[] coords = ring.getCoordinates();
+        float[][][] coordinates = new float[1][coords.length][2];
+        for (int i = 0; i < coords.length; i++) {
+            coordinates[0][i][0] = (float) coords[i].x;
+            coordinates[0][i][1] = (float) coords[i].y;
+        }
+        ProbSevereGeometry geometry = new ProbSevereGeometry();
+        geometry.setCoordinates(coordinates);
+
+        String modelType = ProbSevereRecord.getModelTypes().get(model);
+        Map<String, String> properties = new LinkedHashMap<String, String>();
+        properties.put("TYPE", "SWATH");
+        properties.put("ID", modelType + "_" + BANDS[band]);
+
+        Map<String, String> owner = new LinkedHashMap<String, String>();
+        owner.put("PROB", Integer.toString(BANDS[band]));
+        owner.put("LINE01", MODEL_LABELS[model] + " >= " + BANDS[band] + "% swath");
+        owner.put("LINE02", "- Last " + minutes + " min");
+        Map<String, String> other = new LinkedHashMap<String, String>();
+        other.put("PROB", "-1");
+
+        ProbSevereModelType models = new ProbSevereModelType();
+        models.setProbsevere(model == 0 ? owner : other);
+        models.setProbtor(model == 1 ? owner : other);
+        models.setProbhail(model == 2 ? owner : other);
+        models.setProbwind(model == 3 ? owner : other);
+
+        ProbSevereShape shape = new ProbSevereShape();
+        shape.setGeometry(geometry);
+        shape.setProperties(properties);
+        shape.setModels(models);
+        return shape;
+    }
+
+    /**
+     * Determines if swaths are generated
+     *
+     * @return boolean
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Set whether swaths are generated
+     *
+     * @param boolean
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Per-frame band unions of one source and the last swath built from them
+     */
+    private class SwathWindow {
+
+        private final NavigableMap<Long, Geometry[][]> frames = new TreeMap<Long, Geometry[][]>();
+
+        private Geometry[][] lastSwaths;
+
+        private long lastTime;
+
+        // Whether the last swath ended at the newest frame, so no frame it used was trimmed
+        private boolean lastNewest;
+
+        private void add(long refTime, Geometry[][] bands) {
+            // A frame at or before the last swath was not part of it, so the next swath is rebuilt
+            if (refTime <= lastTime) {
+                lastSwaths = null;
+            }
+            frames.put(Long.valueOf(refTime), bands);
+        }
+
+        /**
+         * Builds the swaths ending at a valid time, adding only the newer
+         * frames to the previous swaths when no frame has left the window
+         */
+        private Geometry[][] getSwaths(long refTime) {
+            Long start = Long.valueOf(refTime - window);
+            Long end = Long.valueOf(refTime);
+            Geometry[][] swaths;
+            boolean incremental = lastSwaths != null && lastNewest && refTime > lastTime
+                    && frames.subMap(Long.valueOf(lastTime - window), false, start, true).isEmpty();
+            if (incremental) {
+                swaths = union(lastSwaths, frames.subMap(Long.valueOf(lastTime), false, end, true));
+            } else {
+                swaths = union(null, frames.subMap(start, false, end, true));
+            }
+            lastSwaths = swaths;
+            lastTime = refTime;
+            lastNewest = refTime == frames.lastKey().longValue();
+
+            // Keep frames that can still fall within the window of the newest frame
+            frames.headMap(Long.valueOf(frames.lastKey().longValue() - window), true).clear();
+            return swaths;
+        }
+
+        private Geometry[][] union(Geometry[][] base, Map<Long, Geometry[][]> added) {
+            int models = ProbSevereRecord.getModelTypes().size();
+            Geometry[][] swaths = new Geometry[models][BANDS.length];
+            for (int m = 0; m < models; m++) {
+                for (int b = 0; b < BANDS.length; b++) {
+                    List<Geometry> members = new ArrayList<Geometry>();
+                    if (base != null && base[m][b] != null) {
+                        members.add(base[m][b]);
+                    }
+                    for (Geometry[][] bands : added.values()) {
+                        if (bands[m][b] != null) {
+                            members.add(bands[m][b]);
+                        }
+                    }
+                    swaths[m][b] = members.isEmpty() ? null : UnaryUnionOp.union(members);
+                }
+            }
+            return swaths;
+        }
+    }
+
+}
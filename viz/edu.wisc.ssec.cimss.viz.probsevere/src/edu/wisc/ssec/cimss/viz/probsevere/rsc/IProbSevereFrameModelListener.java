@@ -0,0 +1,31 @@
+package edu.wisc.ssec.cimss.viz.probsevere.rsc;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Frame Model Listener
+ *
+ * Receives the frame models dropped by the ProbSevere frame model cache, so
+ * a resource can release what it built from them
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public interface IProbSevereFrameModelListener {
+
+    /**
+     * Called after a model has been dropped from the cache, outside the
+     * cache lock
+     *
+     * @param model key
+     * @param dropped model
+     */
+    public void modelEvicted(String key, ProbSevereFrameModel model);
+
+}
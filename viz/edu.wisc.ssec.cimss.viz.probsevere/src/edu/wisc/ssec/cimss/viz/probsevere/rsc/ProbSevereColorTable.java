@@ -0,0 +1,91 @@
+package edu.wisc.ssec.cimss.viz.probsevere.rsc;
+
+import org.eclipse.swt.graphics.RGB;
+
+import com.raytheon.uf.common.colormap.Color;
+import com.raytheon.uf.common.colormap.IColorMap;
+import com.raytheon.uf.common.colormap.prefs.ColorMapParameters;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Color Table
+ *
+ * Color and alpha of each probability level looked up from the colormap
+ * once, and again only when the colormap or its range changes, so painting
+ * does not query the colormap or allocate colors.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereColorTable {
+
+    private final RGB[] colors = new RGB[ProbSevereFrameModel.LEVELS];
+
+    private final float[] alphas = new float[ProbSevereFrameModel.LEVELS];
+
+    private IColorMap colorMap;
+
+    private float colorMapMin = Float.NaN;
+
+    private float colorMapMax = Float.NaN;
+
+    /**
+     * Default empty constructor
+     */
+    public ProbSevereColorTable() {
+        for (int j = 0; j < colors.length; j++) {
+            colors[j] = new RGB(255, 255, 255);
+            alphas[j] = 1.0f;
+        }
+    }
+
+    /**
+     * Looks the levels up again if the colormap or its range changed
+     *
+     * @param colormap parameters
+     */
+    public void update(ColorMapParameters colorMapParams) {
+        if (colorMapParams.getColorMap() == colorMap && colorMapParams.getColorMapMin() == colorMapMin
+                && colorMapParams.getColorMapMax() == colorMapMax) {
+            return;
+        }
+        for (int j = 0; j < colors.length; j++) {
+            Color color = colorMapParams.getColorByValue(j);
+            colors[j].red = (int) (color.getRed() * 255);
+            colors[j].green = (int) (color.getGreen() * 255);
+            colors[j].blue = (int) (color.getBlue() * 255);
+            alphas[j] = color.getAlpha();
+        }
+        colorMap = colorMapParams.getColorMap();
+        colorMapMin = colorMapParams.getColorMapMin();
+        colorMapMax = colorMapParams.getColorMapMax();
+    }
+
+    /**
+     * Retrieve color of a probability level
+     *
+     * @param probability level
+     * @return color, shared and not to be modified
+     */
+    public RGB getColor(int level) {
+        return colors[level];
+    }
+
+    /**
+     * Retrieve alpha of a probability level
+     *
+     * @param probability level
+     * @return alpha
+     */
+    public float getAlpha(int level) {
+        return alphas[level];
+    }
+
+}
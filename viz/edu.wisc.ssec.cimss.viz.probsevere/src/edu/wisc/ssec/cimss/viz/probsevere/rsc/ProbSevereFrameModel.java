@@ -0,0 +1,463 @@
+package edu.wisc.ssec.cimss.viz.probsevere.rsc;
+
+import java.util.List;
+
+import com.raytheon.uf.common.dataplugin.HDF5Util;
+import com.raytheon.uf.common.datastorage.DataStoreFactory;
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.Envelope;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.GeometryFactory;
+import com.vividsolutions.jts.geom.Point;
+import com.vividsolutions.jts.geom.prep.PreparedGeometry;
+import com.vividsolutions.jts.geom.prep.PreparedGeometryFactory;
+import com.vividsolutions.jts.index.strtree.STRtree;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereLod;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Frame Model
+ *
+ * Typed render model of one frame, built once when its record arrives. It
+ * holds the parsed shape geometries, the probability of each shape for each
+ * model, and the shapes of each model ordered by probability so the shapes
+ * at one probability level can be visited without scanning the frame.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Keep the buffered outlines of the double
+ *                                      contour display.
+ * Oct 19, 2026             cimss       Added a spatial index for sampling.
+ * Oct 19, 2026             cimss       Keep shape envelopes for view culling.
+ * Oct 19, 2026             cimss       Read simplified geometries for each
+ *                                      level of detail on first use.
+ * Oct 19, 2026             cimss       Estimate the memory used by the model.
+ * Oct 19, 2026             cimss       Report whether a level of detail has been
+ *                                      read.
+ * Oct 19, 2026             cimss       Report the size of what is built on
+ *                                      first use to the frame model cache.
+ * Oct 19, 2026             cimss       Build the sampling index when the frame
+ *                                      is prepared and sample the lowest shape
+ *                                      holding a location.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereFrameModel {
+
+    // Number of probability levels, 0 through 100
+    public static final int LEVELS = 101;
+
+    // Distance in degrees the outer contour of the double contour display is buffered out
+    private static final double BUFFER_DISTANCE = 0.05;
+
+    private static final int BUFFER_SEGMENTS = 4;
+
+    // Estimated bytes used by a string apart from its characters
+    private static final long STRING_OVERHEAD = 56L;
+
+    // Estimated bytes used by a coordinate and its reference
+    private static final long COORDINATE_BYTES = 48L;
+
+    // Estimated bytes used by a shape apart from its coordinates
+    private static final long SHAPE_OVERHEAD = 256L;
+
+    // Estimated bytes used by a coordinate array apart from its coordinates
+    private static final long ARRAY_OVERHEAD = 16L;
+
+    // Estimated bytes used by an entry of the sampling index
+    private static final long INDEX_ENTRY_BYTES = 64L;
+
+    private final ProbSevereRecord record;
+
+    private final Geometry[] geometries;
+
+    // Probability of each shape, indexed like ProbSevereRecord.getModelTypes()
+    private final int[][] probabilities;
+
+    // Shape indices of each model ordered by probability
+    private final int[][] levelShapes;
+
+    // Start of each level in levelShapes, level j ends where level j + 1 starts
+    private final int[][] levelStarts;
+
+    // Lon/lat envelope of each shape, null for shapes that could not be read
+    private final Envelope[] envelopes;
+
+    // Geometries of each level of detail, read on first use, level 0 being
+    // the full-resolution geometries
+    private final Geometry[][] lodGeometries;
+
+    // Buffered outline of each shape at each level of detail, buffered on first use
+    private final Coordinate[][][] bufferedOutlines;
+
+    private static final GeometryFactory geometryFactory = new GeometryFactory();
+
+    // Estimated memory used by the record data, the geometries and what has
+    // been built on first use, changed through the frame model cache
+    private volatile long sizeInBytes;
+
+    // Key the model is cached under, null if it is not cached
+    private volatile String cacheKey;
+
+    // Index of the prepared shapes for sampling, built by prepareSampling,
+    // the index is set before the prepared shapes are published
+    private STRtree shapeIndex;
+
+    private volatile PreparedGeometry[] preparedGeometries;
+
+    // Shape found by the last sample, checked first as the cursor moves
+    private volatile int lastHit = -1;
+
+    /**
+     * Builds the model of a complete record
+     *
+     * @param complete ProbSevere record
+     */
+    public ProbSevereFrameModel(ProbSevereRecord record) {
+        this.record = record;
+        this.geometries = record.getPolyGeoms();
+        this.lodGeometries = new Geometry[ProbSevereLod.TOLERANCES.length][];
+        this.lodGeometries[0] = geometries;
+        this.bufferedOutlines = new Coordinate[ProbSevereLod.TOLERANCES.length][][];
+        this.envelopes = new Envelope[geometries.length];
+        for (int i = 0; i < geometries.length; i++) {
+            if (!geometries[i].isEmpty()) {
+                envelopes[i] = new Envelope(geometries[i].getEnvelopeInternal());
+                envelopes[i].expandBy(BUFFER_DISTANCE);
+            }
+        }
+        List<String> modelTypes = ProbSevereRecord.getModelTypes();
+        probabilities = new int[modelTypes.size()][];
+        levelShapes = new int[modelTypes.size()][];
+        levelStarts = new int[modelTypes.size()][];
+        for (int m = 0; m < modelTypes.size(); m++) {
+            int[] probs = record.getModelProbabilities(modelTypes.get(m));
+            probabilities[m] = probs;
+
+            // Counting sort of the shapes by level, shapes outside 0 to 100 are never drawn
+            int[] starts = new int[LEVELS + 1];
+            for (int prob : probs) {
+                if (prob >= 0 && prob < LEVELS) {
+                    starts[prob + 1]++;
+                }
+            }
+            for (int j = 0; j < LEVELS; j++) {
+                starts[j + 1] += starts[j];
+            }
+            int[] shapes = new int[starts[LEVELS]];
+            int[] next = new int[LEVELS];
+            System.arraycopy(starts, 0, next, 0, LEVELS);
+            for (int i = 0; i < probs.length; i++) {
+                if (probs[i] >= 0 && probs[i] < LEVELS) {
+                    shapes[next[probs[i]]++] = i;
+                }
+            }
+            levelShapes[m] = shapes;
+            levelStarts[m] = starts;
+        }
+        this.sizeInBytes = estimateSize();
+    }
+
+    private long estimateSize() {
+        long size = 0L;
+        for (Object arr : record.getDataArrays()) {
+            if (arr instanceof String[]) {
+                for (String value : (String[]) arr) {
+                    size += STRING_OVERHEAD + (value == null ? 0 : 2L * value.length());
+                }
+            }
+        }
+        for (Geometry geom : geometries) {
+            size += SHAPE_OVERHEAD + COORDINATE_BYTES * geom.getNumPoints();
+        }
+        size += 4L * (ProbSevereRecord.getModelTypes().size() * 2L * geometries.length);
+        return size;
+    }
+
+    /**
+     * Finds the index of a model type
+     *
+     * @param model type, one of ProbSevereRecord.getModelTypes()
+     * @return model index, -1 if the model type is not known
+     */
+    public static int getModelIndex(String modelType) {
+        List<String> modelTypes = ProbSevereRecord.getModelTypes();
+        for (int m = 0; m < modelTypes.size(); m++) {
+            if (modelTypes.get(m).equalsIgnoreCase(modelType)) {
+                return m;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Retrieve record of this frame
+     *
+     * @return ProbSevere record
+     */
+    public ProbSevereRecord getRecord() {
+        return record;
+    }
+
+    /**
+     * Retrieve number of shapes in this frame
+     *
+     * @return shape count
+     */
+    public int size() {
+        return geometries.length;
+    }
+
+    /**
+     * Retrieve geometry of a shape
+     *
+     * @param shape index
+     * @return geometry, empty if the shape could not be read
+     */
+    public Geometry getGeometry(int shape) {
+        return geometries[shape];
+    }
+
+    /**
+     * Retrieve geometries of a level of detail, reading the simplified
+     * polygons stored with the record on first use
+     *
+     * @param level of detail, see ProbSevereLod
+     * @return geometry of each shape, the full-resolution geometries if the
+     *         level is not stored with the record
+     */
+    public Geometry[] getLodGeometries(int level) {
+        if (level <= 0 || level >= lodGeometries.length) {
+            return geometries;
+        }
+        Geometry[] levelGeometries;
+        long added = 0L;
+        synchronized (lodGeometries) {
+            if (lodGeometries[level] == null) {
+                String[] polygons = record.retrieveLodPolygons(
+                        DataStoreFactory.getDataStore(HDF5Util.findHDF5Location(record)), level);
+                if (polygons == null) {
+                    lodGeometries[level] = geometries;
+                } else {
+                    lodGeometries[level] = ProbSevereRecord.parsePolyGeoms(polygons);
+                    for (Geometry geom : lodGeometries[level]) {
+                        added += SHAPE_OVERHEAD + COORDINATE_BYTES * geom.getNumPoints();
+                    }
+                }
+            }
+            levelGeometries = lodGeometries[level];
+        }
+        if (added > 0L) {
+            ProbSevereFrameModelCache.getInstance().resize(this, added);
+        }
+        return levelGeometries;
+    }
+
+    /**
+     * Determines if the geometries of a level of detail have been read, so
+     * getLodGeometries returns without reading the data store
+     *
+     * @param level of detail, see ProbSevereLod
+     * @return true if the level is ready
+     */
+    public boolean isLodLoaded(int level) {
+        if (level <= 0 || level >= lodGeometries.length) {
+            return true;
+        }
+        synchronized (lodGeometries) {
+            return lodGeometries[level] != null;
+        }
+    }
+
+    /**
+     * Determines if a shape, including its buffered outline, may be visible
+     * within an area
+     *
+     * @param shape index
+     * @param area in lon/lat, null for no limit
+     * @return false if the shape is outside the area or could not be read
+     */
+    public boolean intersects(int shape, Envelope area) {
+        return envelopes[shape] != null && (area == null || area.intersects(envelopes[shape]));
+    }
+
+    /**
+     * Retrieve outline of a shape buffered outward for the double contour
+     * display. The buffer is computed once per frame and kept, so shapes
+     * can be rebuilt without buffering again.
+     *
+     * @param level of detail, see ProbSevereLod
+     * @param shape index
+     * @return buffered outline coordinates
+     */
+    public Coordinate[] getBufferedOutline(int level, int shape) {
+        Geometry[] levelGeometries = getLodGeometries(level);
+        Coordinate[] outline;
+        long added = 0L;
+        synchronized (bufferedOutlines) {
+            int l = levelGeometries == geometries ? 0 : level;
+            if (bufferedOutlines[l] == null) {
+                bufferedOutlines[l] = new Coordinate[geometries.length][];
+                added += ARRAY_OVERHEAD + 8L * geometries.length;
+            }
+            outline = bufferedOutlines[l][shape];
+            if (outline == null) {
+                outline = levelGeometries[shape].buffer(BUFFER_DISTANCE, BUFFER_SEGMENTS).getCoordinates();
+                bufferedOutlines[l][shape] = outline;
+                added += ARRAY_OVERHEAD + COORDINATE_BYTES * outline.length;
+            }
+        }
+        if (added > 0L) {
+            ProbSevereFrameModelCache.getInstance().resize(this, added);
+        }
+        return outline;
+    }
+
+    /**
+     * Finds the lowest index shape holding a location. The shape found last
+     * is checked first, so only the candidates of the spatial index below it
+     * need to be tested while the cursor stays within it.
+     *
+     * @param location in lon/lat
+     * @return shape index, -1 if no shape holds the location or the frame
+     *         has not been prepared for sampling
+     */
+    public int findShape(Coordinate lonLat) {
+        PreparedGeometry[] prepared = preparedGeometries;
+        if (prepared == null) {
+            return -1;
+        }
+        Point point = geometryFactory.createPoint(lonLat);
+        int last = lastHit;
+        int hit = last >= 0 && prepared[last].contains(point) ? last : -1;
+        for (Object candidate : shapeIndex.query(new Envelope(lonLat))) {
+            int i = ((Integer) candidate).intValue();
+            if ((hit < 0 || i < hit) && prepared[i].contains(point)) {
+                hit = i;
+            }
+        }
+        if (hit >= 0) {
+            lastHit = hit;
+        }
+        return hit;
+    }
+
+    /**
+     * Prepares the shapes and builds the spatial index used for sampling,
+     * off the paint thread
+     *
+     * @return true if they were built by this call
+     */
+    public boolean prepareSampling() {
+        if (preparedGeometries != null) {
+            return false;
+        }
+        PreparedGeometry[] prepared;
+        long added = 0L;
+        synchronized (this) {
+            if (preparedGeometries == null) {
+                prepared = new PreparedGeometry[geometries.length];
+                STRtree index = new STRtree();
+                for (int i = 0; i < geometries.length; i++) {
+                    prepared[i] = PreparedGeometryFactory.prepare(geometries[i]);
+                    if (!geometries[i].isEmpty()) {
+                        index.insert(geometries[i].getEnvelopeInternal(), Integer.valueOf(i));
+                    }
+                    // Prepared geometries index their segments on first use
+                    added += SHAPE_OVERHEAD + COORDINATE_BYTES * geometries[i].getNumPoints() + INDEX_ENTRY_BYTES;
+                }
+                index.build();
+                shapeIndex = index;
+                preparedGeometries = prepared;
+            }
+        }
+        if (added > 0L) {
+            ProbSevereFrameModelCache.getInstance().resize(this, added);
+        }
+        return added > 0L;
+    }
+
+    /**
+     * Retrieve probabilities of the shapes for a model
+     *
+     * @param model index
+     * @return probability of each shape
+     */
+    public int[] getProbabilities(int model) {
+        return probabilities[model];
+    }
+
+    /**
+     * Retrieve shape indices of a model ordered by probability
+     *
+     * @param model index
+     * @return shape indices, see getLevelStart for the range of a level
+     */
+    public int[] getLevelShapes(int model) {
+        return levelShapes[model];
+    }
+
+    /**
+     * Retrieve where a level starts in the ordered shape indices of a model
+     *
+     * @param model index
+     * @param level, 0 through LEVELS, LEVELS giving the end of the last level
+     * @return offset into getLevelShapes
+     */
+    public int getLevelStart(int model, int level) {
+        return levelStarts[model][level];
+    }
+
+    /**
+     * Retrieve estimated memory used by this model, including what has been
+     * built on first use
+     *
+     * @return size in bytes
+     */
+    public long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    /**
+     * Changes the estimated memory used by this model, called by the frame
+     * model cache while it holds its lock
+     *
+     * @param change in bytes
+     */
+    void addSizeInBytes(long delta) {
+        sizeInBytes += delta;
+    }
+
+    /**
+     * Retrieve key the model is cached under
+     *
+     * @return key, null if the model is not cached
+     */
+    String getCacheKey() {
+        return cacheKey;
+    }
+
+    /**
+     * Set key the model is cached under, called by the frame model cache
+     *
+     * @param key, null once the model is dropped
+     */
+    void setCacheKey(String cacheKey) {
+        this.cacheKey = cacheKey;
+    }
+
+    /**
+     * Releases the parsed geometries held by the record
+     */
+    public void dispose() {
+        record.releasePolyGeoms();
+    }
+
+}
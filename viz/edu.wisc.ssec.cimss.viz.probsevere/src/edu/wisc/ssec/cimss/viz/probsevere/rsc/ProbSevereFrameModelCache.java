@@ -0,0 +1,311 @@
+package edu.wisc.ssec.cimss.viz.probsevere.rsc;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.vividsolutions.jts.geom.Envelope;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Frame Model Cache
+ *
+ * Render models of the frames displayed by all ProbSevere resources, kept
+ * within one memory budget set in megabytes with the
+ * probsevere.display.cache.megabytes system property. Models are keyed by
+ * the data URI and the extent their record was read for, so resources
+ * showing the same frame share one model. When the budget is exceeded the
+ * least recently displayed models are dropped, and a resource reads its
+ * frame again the next time it is displayed. A model that builds more on
+ * first use, such as levels of detail, buffered outlines or its sampling
+ * index, reports the added size through resize so the budget covers it.
+ * Listeners are told of every dropped model so what was built from it can be
+ * released too. Models are held in use order, so the least recently used
+ * model is found without a scan and the lock is only held briefly. Hits and
+ * misses are logged every probsevere.display.cache.stats.lookups lookups.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Added lookup without use.
+ * Oct 19, 2026             cimss       Look up models without locking, only
+ *                                      adding models locks the cache.
+ * Oct 19, 2026             cimss       Account for structures models build on
+ *                                      first use and tell listeners of dropped
+ *                                      models.
+ * Oct 19, 2026             cimss       Hold models in use order and log hit and
+ *                                      miss counts.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereFrameModelCache {
+
+    private static final IUFStatusHandler statusHandler = UFStatus.getHandler(ProbSevereFrameModelCache.class);
+
+    private static final ProbSevereFrameModelCache instance = new ProbSevereFrameModelCache();
+
+    private volatile long maxBytes = Long.getLong("probsevere.display.cache.megabytes", 256L) * 1024L * 1024L;
+
+    // Cached models keyed by model key, least recently used first, guarded by itself
+    private final Map<String, ProbSevereFrameModel> models = new LinkedHashMap<String, ProbSevereFrameModel>(16,
+            0.75f, true);
+
+    // Guarded by models
+    private long totalBytes = 0L;
+
+    private long hits = 0L;
+
+    private long misses = 0L;
+
+    // Number of lookups between statistics log lines, 0 to not log them
+    private int statsLookups = Integer.getInteger("probsevere.display.cache.stats.lookups", 1000);
+
+    // Told of every dropped model
+    private final List<IProbSevereFrameModelListener> listeners =
+            new CopyOnWriteArrayList<IProbSevereFrameModelListener>();
+
+    private ProbSevereFrameModelCache() {
+    }
+
+    /**
+     * Retrieve the cache instance
+     *
+     * @return cache instance
+     */
+    public static ProbSevereFrameModelCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Creates the key of a frame model
+     *
+     * @param data URI of the record
+     * @param lon/lat extent the record was read for, null for every shape
+     * @return model key
+     */
+    public static String createKey(String dataURI, Envelope extent) {
+        return extent == null ? dataURI : dataURI + "|" + extent;
+    }
+
+    /**
+     * Retrieves a model, marking it as the most recently used
+     *
+     * @param model key
+     * @return cached model, null if the model is not cached
+     */
+    public ProbSevereFrameModel get(String key) {
+        synchronized (models) {
+            ProbSevereFrameModel model = models.get(key);
+            if (model == null) {
+                misses++;
+            } else {
+                hits++;
+            }
+            logStats();
+            return model;
+        }
+    }
+
+    /**
+     * Determines if a model is cached without counting a hit or miss or
+     * changing its use order
+     *
+     * @param model key
+     * @return true if the model is cached
+     */
+    public boolean contains(String key) {
+        synchronized (models) {
+            return models.containsKey(key);
+        }
+    }
+
+    /**
+     * Adds a model as the most recently used, dropping the least recently
+     * used models until the cache is within its budget. The model just added
+     * is always kept.
+     *
+     * @param model key
+     * @param model to add
+     */
+    public void put(String key, ProbSevereFrameModel model) {
+        List<Map.Entry<String, ProbSevereFrameModel>> evicted =
+                new ArrayList<Map.Entry<String, ProbSevereFrameModel>>();
+        synchronized (models) {
+            model.setCacheKey(key);
+            ProbSevereFrameModel previous = models.put(key, model);
+            if (previous != null) {
+                totalBytes -= previous.getSizeInBytes();
+                if (previous != model) {
+                    previous.setCacheKey(null);
+                    evicted.add(new AbstractMap.SimpleImmutableEntry<String, ProbSevereFrameModel>(key, previous));
+                }
+            }
+            totalBytes += model.getSizeInBytes();
+            evict(key, evicted);
+        }
+        notifyEvicted(evicted);
+    }
+
+    /**
+     * Changes the size of a model as it builds structures on first use,
+     * dropping the least recently used other models if a cached model grows
+     * the cache past its budget
+     *
+     * @param model that changed
+     * @param change in bytes
+     */
+    public void resize(ProbSevereFrameModel model, long delta) {
+        List<Map.Entry<String, ProbSevereFrameModel>> evicted =
+                new ArrayList<Map.Entry<String, ProbSevereFrameModel>>();
+        synchronized (models) {
+            model.addSizeInBytes(delta);
+            String key = model.getCacheKey();
+            // Looking the model up would change its use order
+            if (key == null || !models.containsKey(key)) {
+                return;
+            }
+            totalBytes += delta;
+            evict(key, evicted);
+        }
+        notifyEvicted(evicted);
+    }
+
+    /**
+     * Adds a listener told of every dropped model
+     *
+     * @param listener
+     */
+    public void addListener(IProbSevereFrameModelListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener
+     *
+     * @param listener
+     */
+    public void removeListener(IProbSevereFrameModelListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Drops the least recently used models until the cache is within its
+     * budget, the caller holding the models lock
+     *
+     * @param key of the model to keep
+     * @param receives the dropped models
+     */
+    private void evict(String keep, List<Map.Entry<String, ProbSevereFrameModel>> evicted) {
+        Iterator<Map.Entry<String, ProbSevereFrameModel>> it = models.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, ProbSevereFrameModel> eldest = it.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            it.remove();
+            totalBytes -= eldest.getValue().getSizeInBytes();
+            eldest.getValue().setCacheKey(null);
+            evicted.add(eldest);
+        }
+    }
+
+    private void notifyEvicted(List<Map.Entry<String, ProbSevereFrameModel>> evicted) {
+        for (Map.Entry<String, ProbSevereFrameModel> entry : evicted) {
+            entry.getValue().dispose();
+            for (IProbSevereFrameModelListener listener : listeners) {
+                listener.modelEvicted(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Logs the hit and miss counts every statsLookups lookups, the caller
+     * holding the models lock
+     */
+    private void logStats() {
+        if (statsLookups > 0 && (hits + misses) % statsLookups == 0) {
+            statusHandler.info("ProbSevere display cache: " + hits + " hits, " + misses + " misses, "
+                    + models.size() + " frames, " + totalBytes / 1024L + " KB");
+        }
+    }
+
+    /**
+     * Retrieve number of lookups that found a cached model
+     *
+     * @return hit count
+     */
+    public long getHits() {
+        synchronized (models) {
+            return hits;
+        }
+    }
+
+    /**
+     * Retrieve number of lookups that did not find a cached model
+     *
+     * @return miss count
+     */
+    public long getMisses() {
+        synchronized (models) {
+            return misses;
+        }
+    }
+
+    /**
+     * Retrieve estimated memory used by the cached models
+     *
+     * @return size in bytes
+     */
+    public long getTotalBytes() {
+        synchronized (models) {
+            return totalBytes;
+        }
+    }
+
+    /**
+     * Retrieve memory budget of the cache
+     *
+     * @return budget in bytes
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Set memory budget of the cache
+     *
+     * @param budget in bytes
+     */
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Retrieve number of lookups between statistics log lines
+     *
+     * @return lookup count, 0 if statistics are not logged
+     */
+    public int getStatsLookups() {
+        return statsLookups;
+    }
+
+    /**
+     * Set number of lookups between statistics log lines
+     *
+     * @param lookup count, 0 to not log statistics
+     */
+    public void setStatsLookups(int statsLookups) {
+        this.statsLookups = statsLookups;
+    }
+
+}
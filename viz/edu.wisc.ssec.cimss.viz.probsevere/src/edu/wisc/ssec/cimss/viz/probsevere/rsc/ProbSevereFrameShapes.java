@@ -0,0 +1,248 @@
+package edu.wisc.ssec.cimss.viz.probsevere.rsc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.raytheon.uf.viz.core.IGraphicsTarget;
+import com.raytheon.uf.viz.core.IGraphicsTarget.LineStyle;
+import com.raytheon.uf.viz.core.drawables.IWireframeShape;
+import com.raytheon.uf.viz.core.drawables.PaintProperties;
+import com.raytheon.uf.viz.core.exception.VizException;
+import com.raytheon.uf.viz.core.map.MapDescriptor;
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.Envelope;
+import com.vividsolutions.jts.geom.Geometry;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Frame Shapes
+ *
+ * Compiled wireframe shapes of one frame, one per probability and line
+ * width in draw order, so a repaint only draws them. The lines of the shapes,
+ * including buffered outlines and culling, are prepared away from the paint
+ * thread, which only compiles them once before drawing. The shapes are built
+ * for one set of display attributes, see createKey, and must be rebuilt
+ * when the attributes, the frame data or the descriptor change. Only the
+ * shapes within the culling area are included, so the shapes must also be
+ * rebuilt when the view leaves that area or needs another level of detail.
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Build from the frame render model and
+ *                                      draw with the level color table.
+ *                                      Use the buffered outlines kept by the
+ *                                      frame render model.
+ *                                      Only hold the shapes within the area
+ *                                      around the view they were built for.
+ *                                      Build from the geometries of a level
+ *                                      of detail.
+ * Oct 19, 2026             cimss       Prepare the shape lines away from the
+ *                                      paint thread, which only compiles them.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereFrameShapes {
+
+    private static final float THICK_LINE = 7.0f;
+
+    private static final float THIN_LINE = 4.0f;
+
+    private final String key;
+
+    // Lon/lat area the shapes were culled to, null if they were not culled
+    private final Envelope area;
+
+    // Level of detail of the geometries the shapes were built from
+    private final int lodLevel;
+
+    // Lines of each shape in draw order, released once the shapes are compiled
+    private Coordinate[][][] shapeLines = new Coordinate[0][][];
+
+    // Compiled shapes in draw order, null until compiled
+    private IWireframeShape[] shapes = null;
+
+    // Probability level and line width of each shape
+    private int[] shapeLevels = new int[0];
+
+    private float[] shapeWidths = new float[0];
+
+    private int shapeCount = 0;
+
+    /**
+     * Prepares the lines of the shapes of a frame, reading and buffering the
+     * geometries as needed, so it should not be called on the paint thread
+     *
+     * @param resource data holding the display attributes
+     * @param render model of the frame
+     * @param lon/lat area to cull the shapes to, null to include every shape
+     * @param level of detail to build the shapes from, see ProbSevereLod
+     */
+    public ProbSevereFrameShapes(ProbSevereResourceData resourceData, ProbSevereFrameModel frame, Envelope area,
+            int lodLevel) {
+        this.key = createKey(resourceData);
+        this.area = area;
+        this.lodLevel = lodLevel;
+        int model = ProbSevereFrameModel.getModelIndex(resourceData.getModelType());
+        if (model < 0) {
+            return;
+        }
+        if (model == ProbSevereFrameModel.getModelIndex("probsevere")) {
+            int tor = ProbSevereFrameModel.getModelIndex("probtor");
+            if (resourceData.getBaseShape().equalsIgnoreCase("tor")) {
+                addLevels(frame, tor, resourceData.getTorShapeThresh(), false, 0);
+                addLevels(frame, model, 0, true, resourceData.getProbThresh());
+            } else {
+                addLevels(frame, model, 0, false, resourceData.getProbThresh());
+                addLevels(frame, tor, resourceData.getTorShapeThresh(), true, 0);
+            }
+        } else {
+            addLevels(frame, model, 0, false, resourceData.getProbThresh());
+        }
+    }
+
+    /**
+     * Creates the key of the display attributes the shapes depend on
+     *
+     * @param resource data holding the display attributes
+     * @return attribute key
+     */
+    public static String createKey(ProbSevereResourceData resourceData) {
+        return resourceData.getModelType().toLowerCase() + "|" + resourceData.getBaseShape().toLowerCase() + "|"
+                + resourceData.getProbThresh() + "|" + resourceData.getTorShapeThresh();
+    }
+
+    /**
+     * Adds one shape per probability level from the minimum up holding the
+     * shapes of a model at that level
+     *
+     * @param render model of the frame
+     * @param model index
+     * @param minimum probability level to draw
+     * @param buffered to draw the outline buffered outward
+     * @param thick threshold, levels below it are drawn with thin lines
+     */
+    private void addLevels(ProbSevereFrameModel frame, int model, int minProb, boolean buffered, int thickThresh) {
+        int[] levelShapes = frame.getLevelShapes(model);
+        Geometry[] geoms = frame.getLodGeometries(lodLevel);
+        List<Coordinate[]> lines = new ArrayList<Coordinate[]>();
+        for (int j = Math.max(0, minProb); j < ProbSevereFrameModel.LEVELS; j++) {
+            int end = frame.getLevelStart(model, j + 1);
+            for (int k = frame.getLevelStart(model, j); k < end; k++) {
+                if (!frame.intersects(levelShapes[k], area)) {
+                    continue;
+                }
+                lines.add(buffered ? frame.getBufferedOutline(lodLevel, levelShapes[k])
+                        : geoms[levelShapes[k]].getCoordinates());
+            }
+            if (!lines.isEmpty()) {
+                addShape(lines.toArray(new Coordinate[lines.size()][]), j, j < thickThresh ? THIN_LINE : THICK_LINE);
+                lines.clear();
+            }
+        }
+    }
+
+    private void addShape(Coordinate[][] lines, int level, float width) {
+        if (shapeCount == shapeLines.length) {
+            int capacity = Math.max(8, shapeCount * 2);
+            shapeLines = Arrays.copyOf(shapeLines, capacity);
+            shapeLevels = Arrays.copyOf(shapeLevels, capacity);
+            shapeWidths = Arrays.copyOf(shapeWidths, capacity);
+        }
+        shapeLines[shapeCount] = lines;
+        shapeLevels[shapeCount] = level;
+        shapeWidths[shapeCount] = width;
+        shapeCount++;
+    }
+
+    /**
+     * Compiles the prepared lines into wireframe shapes, on the paint thread
+     *
+     * @param target
+     * @param descriptor to build the shapes for
+     */
+    public void compile(IGraphicsTarget target, MapDescriptor descriptor) {
+        if (shapes != null) {
+            return;
+        }
+        IWireframeShape[] compiled = new IWireframeShape[shapeCount];
+        for (int s = 0; s < shapeCount; s++) {
+            compiled[s] = target.createWireframeShape(false, descriptor);
+            for (Coordinate[] line : shapeLines[s]) {
+                compiled[s].addLineSegment(line);
+            }
+            compiled[s].compile();
+        }
+        shapes = compiled;
+        shapeLines = null;
+    }
+
+    /**
+     * Determines if the shapes were built for the current display attributes
+     *
+     * @param resource data holding the display attributes
+     * @return true if the shapes can be drawn, if not for the current view
+     */
+    public boolean isDrawable(ProbSevereResourceData resourceData) {
+        return key.equals(createKey(resourceData));
+    }
+
+    /**
+     * Determines if the shapes were built for the current display attributes
+     * and level of detail and cover the view
+     *
+     * @param resource data holding the display attributes
+     * @param lon/lat area of the view, null if it is not known
+     * @param level of detail needed for the view
+     * @return true if the shapes can be drawn as is
+     */
+    public boolean isValid(ProbSevereResourceData resourceData, Envelope view, int lodLevel) {
+        if (this.lodLevel != lodLevel) {
+            return false;
+        }
+        if (area != null && (view == null || !area.contains(view))) {
+            return false;
+        }
+        return key.equals(createKey(resourceData));
+    }
+
+    /**
+     * Draws the shapes colored by probability
+     *
+     * @param target
+     * @param paintProps
+     * @param colors of the probability levels
+     * @throws VizException
+     */
+    public void paint(IGraphicsTarget target, PaintProperties paintProps, ProbSevereColorTable colorTable)
+            throws VizException {
+        if (shapes == null) {
+            return;
+        }
+        for (int s = 0; s < shapeCount; s++) {
+            int level = shapeLevels[s];
+            target.drawWireframeShape(shapes[s], colorTable.getColor(level), shapeWidths[s], LineStyle.SOLID,
+                    colorTable.getAlpha(level) * paintProps.getAlpha());
+        }
+    }
+
+    /**
+     * Releases the compiled shapes
+     */
+    public void dispose() {
+        if (shapes != null) {
+            for (int s = 0; s < shapes.length; s++) {
+                shapes[s].dispose();
+                shapes[s] = null;
+            }
+        }
+        shapeLines = null;
+        shapeCount = 0;
+    }
+
+}
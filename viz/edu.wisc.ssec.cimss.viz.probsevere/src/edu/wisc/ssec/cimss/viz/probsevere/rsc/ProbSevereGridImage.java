@@ -0,0 +1,146 @@
+package edu.wisc.ssec.cimss.viz.probsevere.rsc;
+
+import java.nio.ByteBuffer;
+
+import org.geotools.coverage.grid.GridEnvelope2D;
+import org.geotools.coverage.grid.GridGeometry2D;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+
+import com.raytheon.uf.common.colormap.image.ColorMapData;
+import com.raytheon.uf.common.colormap.prefs.ColorMapParameters;
+import com.raytheon.uf.common.dataplugin.HDF5Util;
+import com.raytheon.uf.common.datastorage.DataStoreFactory;
+import com.raytheon.uf.common.datastorage.IDataStore;
+import com.raytheon.uf.common.datastorage.Request;
+import com.raytheon.uf.common.datastorage.records.ByteDataRecord;
+import com.raytheon.uf.common.datastorage.records.FloatDataRecord;
+import com.raytheon.uf.common.datastorage.records.IDataRecord;
+import com.raytheon.uf.common.geospatial.MapUtil;
+import com.raytheon.uf.viz.core.DrawableImage;
+import com.raytheon.uf.viz.core.IGraphicsTarget;
+import com.raytheon.uf.viz.core.IMesh;
+import com.raytheon.uf.viz.core.data.IColorMapDataRetrievalCallback;
+import com.raytheon.uf.viz.core.drawables.IImage;
+import com.raytheon.uf.viz.core.drawables.PaintProperties;
+import com.raytheon.uf.viz.core.drawables.ext.colormap.IColormappedImageExtension;
+import com.raytheon.uf.viz.core.exception.VizException;
+import com.raytheon.uf.viz.core.map.IMapMeshExtension;
+import com.raytheon.uf.viz.core.map.MapDescriptor;
+
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereGrid;
+
+/**
+ * NOAA/CIMSS ProbSevere Model Grid Image
+ *
+ * Colormapped image of the max-probability grid stored with a record for
+ * one model type, drawn in place of the shapes at coarse zoom
+ *
+ * <pre>
+ * SOFTWARE HISTORY
+ * Date         Ticket#     Engineer    Description
+ * ------------ ----------  ----------- --------------------------
+ * Oct 19, 2026             cimss       Initial creation.
+ * Oct 19, 2026             cimss       Derived records have no grid to read.
+ *
+ * </pre
+ *
+ * @version 1.0
+ *
+ */
+public class ProbSevereGridImage implements IColorMapDataRetrievalCallback {
+
+    private final ProbSevereGrid grid;
+
+    private final byte[] data;
+
+    private DrawableImage image;
+
+    private ProbSevereGridImage(ProbSevereGrid grid, byte[] data) {
+        this.grid = grid;
+        this.data = data;
+    }
+
+    /**
+     * Reads the grid of a model type stored with a record
+     *
+     * @param ProbSevere record
+     * @param model type, one of ProbSevereRecord.getModelTypes()
+     * @return grid image, null if the record was stored without grids
+     */
+    public static ProbSevereGridImage load(ProbSevereRecord rec, String modelType) {
+        // Derived records are stored without grids
+        if (rec.isDerived()) {
+            return null;
+        }
+        IDataStore ds = DataStoreFactory.getDataStore(HDF5Util.findHDF5Location(rec));
+        String group = ProbSevereGrid.getGridGroup(rec.getDataURI());
+        IDataRecord[] dataRec;
+        try {
+            dataRec = ds.retrieveDatasets(new String[] { group + "/" + ProbSevereGrid.GRID_INFO,
+                    group + "/" + modelType.toLowerCase() }, Request.ALL);
+        } catch (Exception e) {
+            return null;
+        }
+        float[] info = null;
+        byte[] data = null;
+        for (IDataRecord gridRec : dataRec) {
+            if (gridRec instanceof FloatDataRecord) {
+                info = ((FloatDataRecord) gridRec).getFloatData();
+            } else if (gridRec instanceof ByteDataRecord) {
+                data = ((ByteDataRecord) gridRec).getByteData();
+            }
+        }
+        if (info == null || data == null) {
+            return null;
+        }
+        ProbSevereGrid grid = new ProbSevereGrid(info);
+        if (data.length != grid.getNx() * grid.getNy()) {
+            return null;
+        }
+        return new ProbSevereGridImage(grid, data);
+    }
+
+    /**
+     * @see com.raytheon.uf.viz.core.data.IColorMapDataRetrievalCallback#getColorMapData()
+     */
+    @Override
+    public ColorMapData getColorMapData() throws VizException {
+        return new ColorMapData(ByteBuffer.wrap(data), new int[] { grid.getNx(), grid.getNy() },
+                ColorMapData.ColorMapDataType.BYTE);
+    }
+
+    /**
+     * Draws the grid, creating the image on first use
+     *
+     * @param target
+     * @param paintProps
+     * @param descriptor to draw on
+     * @param colormap parameters of the image
+     * @throws VizException
+     */
+    public void paint(IGraphicsTarget target, PaintProperties paintProps, MapDescriptor descriptor,
+            ColorMapParameters params) throws VizException {
+        if (image == null) {
+            GridGeometry2D gridGeometry = new GridGeometry2D(new GridEnvelope2D(0, 0, grid.getNx(), grid.getNy()),
+                    new ReferencedEnvelope(grid.getMinLon(), grid.getMaxLon(), grid.getMinLat(), grid.getMaxLat(),
+                            MapUtil.LATLON_PROJECTION));
+            IImage raster = target.getExtension(IColormappedImageExtension.class).initializeRaster(this, params);
+            IMesh mesh = target.getExtension(IMapMeshExtension.class).constructMesh(gridGeometry,
+                    descriptor.getGridGeometry());
+            image = new DrawableImage(raster, mesh);
+        }
+        target.drawRasters(paintProps, image);
+    }
+
+    /**
+     * Releases the graphics resources of the image
+     */
+    public void dispose() {
+        if (image != null) {
+            image.dispose();
+            image = null;
+        }
+    }
+
+}
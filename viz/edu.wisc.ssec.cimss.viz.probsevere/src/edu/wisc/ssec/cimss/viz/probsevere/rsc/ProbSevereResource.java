@@ -1,40 +1,58 @@
 package edu.wisc.ssec.cimss.viz.probsevere.rsc;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import org.eclipse.swt.graphics.RGB;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.opengis.referencing.crs.CoordinateReferenceSystem;
 
-import com.raytheon.uf.common.colormap.Color;
 import com.raytheon.uf.common.colormap.ColorMapException;
 import com.raytheon.uf.common.colormap.ColorMapLoader;
 import com.raytheon.uf.common.colormap.prefs.ColorMapParameters;
 import com.raytheon.uf.common.dataplugin.HDF5Util;
 import com.raytheon.uf.common.dataplugin.PluginDataObject;
 import com.raytheon.uf.common.datastorage.DataStoreFactory;
+import com.raytheon.uf.common.dataquery.requests.RequestConstraint;
 import com.raytheon.uf.common.datastorage.IDataStore;
 import com.raytheon.uf.common.geospatial.ReferencedCoordinate;
+import com.raytheon.uf.common.jms.notification.INotificationObserver;
+import com.raytheon.uf.common.jms.notification.NotificationException;
+import com.raytheon.uf.common.jms.notification.NotificationMessage;
 import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
 import com.raytheon.uf.common.status.UFStatus.Priority;
 import com.raytheon.uf.common.time.DataTime;
+import com.raytheon.uf.viz.core.IExtent;
 import com.raytheon.uf.viz.core.IGraphicsTarget;
-import com.raytheon.uf.viz.core.IGraphicsTarget.LineStyle;
-import com.raytheon.uf.viz.core.drawables.IWireframeShape;
 import com.raytheon.uf.viz.core.drawables.PaintProperties;
 import com.raytheon.uf.viz.core.exception.VizException;
 import com.raytheon.uf.viz.core.map.MapDescriptor;
+import com.raytheon.uf.viz.core.notification.jobs.NotificationManagerJob;
+import com.raytheon.uf.viz.core.requests.ThriftClient;
 import com.raytheon.uf.viz.core.rsc.AbstractVizResource;
 import com.raytheon.uf.viz.core.rsc.IResourceDataChanged;
 import com.raytheon.uf.viz.core.rsc.LoadProperties;
 import com.raytheon.uf.viz.core.rsc.capabilities.ColorMapCapability;
 import com.vividsolutions.jts.geom.Coordinate;
-import com.vividsolutions.jts.geom.Geometry;
-import com.vividsolutions.jts.geom.GeometryFactory;
-import com.vividsolutions.jts.geom.Point;
+import com.vividsolutions.jts.geom.Envelope;
 
 import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereLod;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.impl.ProbSevereTiling;
+import edu.wisc.ssec.cimss.common.dataplugin.probsevere.request.ProbSevereRecordRequest;
 
 /**
  * NOAA/CIMSS ProbSevere Model Visualization Resource
@@ -60,6 +78,47 @@ import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
  *                                      within HashMaps of unprocessedRecords and 
  *                                      frames.  Only one ProbSevereRecord exists per 
  *                                      DataTime instance.
+ * Oct 19, 2026             cimss       Use records carried in the notification
+ *                                      payload instead of reading the data store
+ *                                      when one is available.
+ *                                      Request record data through the EDEX frame
+ *                                      cache before reading the data store directly.
+ *                                      Read only the stored tiles that intersect
+ *                                      the descriptor extent.
+ *                                      Name swath displays.
+ *                                      Draw the stored max-probability grid
+ *                                      instead of shapes when zoomed out.
+ *                                      Release the parsed geometries of frames
+ *                                      that are dropped.
+ *                                      Keep compiled shapes per frame instead of
+ *                                      building them on every paint.
+ *                                      Build a typed render model once per frame
+ *                                      for painting and sampling.
+ *                                      Sample through the frame spatial index.
+ * Oct 19, 2026             cimss       Cull shapes to the area around the view.
+ * Oct 19, 2026             cimss       Draw shapes at the level of detail of the
+ *                                      map scale.
+ * Oct 19, 2026             cimss       Hold frame models in the shared display
+ *                                      cache and read evicted frames again when
+ *                                      they are displayed.
+ * Oct 19, 2026             cimss       Register records as frames and read their
+ *                                      data in the background, newest first and
+ *                                      the displayed frame before any other.
+ * Oct 19, 2026             cimss       Prepare frames in the background, reading
+ *                                      ahead in the animation direction, so the
+ *                                      paint path only draws.
+ * Oct 19, 2026             cimss       Keep notified records another resource
+ *                                      has unpacked already.
+ * Oct 19, 2026             cimss       Release the shapes and grid images of
+ *                                      frames dropped by the frame model cache.
+ * Oct 19, 2026             cimss       Prepare the shape lines and buffered
+ *                                      outlines in the background so paint
+ *                                      only compiles and draws them.
+ * Oct 19, 2026             cimss       Read only the stored tiles around the
+ *                                      view, drawing the shapes already built
+ *                                      until the new tiles are ready.
+ * Oct 19, 2026             cimss       Build the sampling index of a frame when
+ *                                      it is prepared.
  * </pre
  *
  * @author Lee Cronce
@@ -72,12 +131,123 @@ AbstractVizResource<ProbSevereResourceData, MapDescriptor> {
     private final IUFStatusHandler statusHandler = UFStatus
             .getHandler(ProbSevereResource.class);
 
-    // Place to store records that have not yet been processed
-    private Map<DataTime, ProbSevereRecord> unprocessedRecords = new HashMap<DataTime, ProbSevereRecord>();
+    // Data URIs of the registered frames, their render models are read in the
+    // background and held by the frame model cache
+    private final ConcurrentSkipListMap<DataTime, String> frames = new ConcurrentSkipListMap<DataTime, String>();
+
+    // Registered frames not yet read, read newest first
+    private final NavigableSet<DataTime> pendingFrames = new TreeSet<DataTime>();
+
+    // Displayed frame and the frames after it in the animation direction,
+    // prepared before the pending frames are read, guarded by pendingFrames
+    private List<DataTime> requestedFrames = new ArrayList<DataTime>();
+
+    // Number of frames prepared ahead of the displayed frame
+    private static final int PREFETCH_FRAMES = Integer.getInteger("probsevere.display.prefetch", 3);
+
+    // Frames last requested by the paint thread and the animation direction
+    private List<DataTime> lastRequested = new ArrayList<DataTime>();
+
+    private boolean forward = true;
+
+    // Level of detail and grid display of the last paint, prepared for the
+    // requested frames
+    private volatile int lodLevel = 0;
+
+    private volatile boolean gridZoom = false;
+
+    // Reads and prepares the requested and pending frames once the resource
+    // is initialized
+    private final Job loadJob;
+
+    // Set once a refresh has been issued until the next paint
+    private final AtomicBoolean refreshQueued = new AtomicBoolean(false);
+
+    private volatile boolean initialized = false;
+
+    private final ProbSevereFrameModelCache frameCache = ProbSevereFrameModelCache.getInstance();
+
+    // Frames whose models were dropped from the frame model cache, their
+    // shapes and grid images are released by the next paint
+    private final ConcurrentLinkedQueue<DataTime> evictedFrames = new ConcurrentLinkedQueue<DataTime>();
+
+    private final IProbSevereFrameModelListener evictionListener = new IProbSevereFrameModelListener() {
+        @Override
+        public void modelEvicted(String key, ProbSevereFrameModel model) {
+            Envelope extent = getReadExtent(shapeArea);
+            for (Map.Entry<DataTime, String> frame : frames.entrySet()) {
+                if (key.equals(ProbSevereFrameModelCache.createKey(frame.getValue(), extent))) {
+                    evictedFrames.add(frame.getKey());
+                }
+            }
+        }
+    };
+
+    // Colors of the probability levels
+    private final ProbSevereColorTable colorTable = new ProbSevereColorTable();
+
+    // Number of notification payload records held while waiting for the data update
+    private static final int MAX_NOTIFIED_RECORDS = 16;
+
+    // Records received with a feature block payload, keyed by data URI
+    private Map<String, ProbSevereRecord> notifiedRecords = new LinkedHashMap<String, ProbSevereRecord>() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ProbSevereRecord> eldest) {
+            return size() > MAX_NOTIFIED_RECORDS;
+        }
+    };
+
+    private final INotificationObserver payloadObserver = new INotificationObserver() {
+        @Override
+        public void notificationArrived(NotificationMessage[] messages) {
+            for (NotificationMessage message : messages) {
+                try {
+                    Object payload = message.getMessagePayload();
+                    if (payload instanceof ProbSevereRecord) {
+                        addNotifiedRecord((ProbSevereRecord) payload);
+                    }
+                } catch (NotificationException e) {
+                    statusHandler.handle(Priority.PROBLEM, "Error reading ProbSevere notification payload", e);
+                }
+            }
+        }
+    };
+
+    // Lon/lat extent of the descriptor, limiting the stored tiles read
+    private Envelope descriptorExtent;
+
+    // Tile-aligned extent frames were last read for by the paint thread
+    private Envelope lastReadExtent;
+
+    // Number of points sampled along each descriptor edge for its extent
+    private static final int EXTENT_EDGE_POINTS = 16;
+
+    // Fraction of the view size added on each side of the view when culling
+    // shapes, so panning within it does not rebuild them
+    private static final double CULL_MARGIN = 0.5;
+
+    // Compiled shapes by frame, rebuilt when the display attributes change
+    private Map<DataTime, ProbSevereFrameShapes> frameShapes = new HashMap<DataTime, ProbSevereFrameShapes>();
+
+    // Shapes prepared in the background and not compiled yet by frame,
+    // guarded by frameShapes
+    private Map<DataTime, ProbSevereFrameShapes> preparedShapes = new HashMap<DataTime, ProbSevereFrameShapes>();
+
+    // Lon/lat view of the last paint and the area around it shapes are
+    // prepared for, null if the view could not be converted to lon/lat
+    private volatile Envelope shapeView;
+
+    private volatile Envelope shapeArea;
 
-    private Map<DataTime, ProbSevereRecord> frames = new HashMap<DataTime, ProbSevereRecord>();
+    // Max-probability grid images by frame, null where a frame has no grid
+    private Map<DataTime, ProbSevereGridImage> gridImages = new HashMap<DataTime, ProbSevereGridImage>();
 
-    private DataTime displayedDataTime;
+    // Colormap parameters of the grid images, zero probability left transparent
+    private ColorMapParameters gridParams;
+
+    private volatile DataTime displayedDataTime;
 
     private static boolean isTimeAgnostic = false;
 
@@ -101,10 +271,29 @@ AbstractVizResource<ProbSevereResourceData, MapDescriptor> {
                         }
                     }
                 }
-                issueRefresh();
+                requestRefresh();
             }
         });
-
+        loadJob = new Job("Loading ProbSevere frames") {
+            @Override
+            protected IStatus run(IProgressMonitor monitor) {
+                while (!monitor.isCanceled()) {
+                    DataTime time;
+                    boolean requested;
+                    synchronized (pendingFrames) {
+                        requested = !requestedFrames.isEmpty();
+                        time = requested ? requestedFrames.remove(0) : pendingFrames.pollLast();
+                        if (time == null) {
+                            break;
+                        }
+                        pendingFrames.remove(time);
+                    }
+                    loadFrame(time, requested);
+                }
+                return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+            }
+        };
+        loadJob.setSystem(true);
     }
 
     /**
@@ -123,14 +312,67 @@ AbstractVizResource<ProbSevereResourceData, MapDescriptor> {
      */
     @Override
     protected void disposeInternal() {
+        NotificationManagerJob.removeObserver(ProbSevereRecord.NOTIFICATION_TOPIC, payloadObserver);
+        frameCache.removeListener(evictionListener);
+        initialized = false;
+        loadJob.cancel();
         clearDisplayFrames();
+        disposeFrameShapes();
+        disposeGridImages();
+        synchronized (notifiedRecords) {
+            notifiedRecords.clear();
+        }
     }
 
-    protected void clearDisplayFrames() {
-        synchronized (frames) {
-            if (!frames.isEmpty()){
-                frames.clear();
+    /**
+     * Disposes the compiled and prepared shapes of all frames so they are
+     * built again
+     */
+    private void disposeFrameShapes() {
+        synchronized (frameShapes) {
+            for (ProbSevereFrameShapes shapes : frameShapes.values()) {
+                shapes.dispose();
+            }
+            frameShapes.clear();
+            preparedShapes.clear();
+        }
+    }
+
+    /**
+     * Disposes the compiled and prepared shapes of a frame
+     *
+     * @param data time of the frame
+     */
+    private void removeFrameShapes(DataTime time) {
+        ProbSevereFrameShapes shapes;
+        synchronized (frameShapes) {
+            shapes = frameShapes.remove(time);
+            preparedShapes.remove(time);
+        }
+        if (shapes != null) {
+            shapes.dispose();
+        }
+    }
+
+    /**
+     * Disposes the grid images of all frames so they are created again
+     */
+    private void disposeGridImages() {
+        synchronized (gridImages) {
+            for (ProbSevereGridImage image : gridImages.values()) {
+                if (image != null) {
+                    image.dispose();
+                }
             }
+            gridImages.clear();
+        }
+    }
+
+    protected void clearDisplayFrames() {
+        frames.clear();
+        synchronized (pendingFrames) {
+            pendingFrames.clear();
+            requestedFrames.clear();
         }
     }
 
@@ -161,6 +403,98 @@ AbstractVizResource<ProbSevereResourceData, MapDescriptor> {
         float[] cbi = {0.0f, 10.0f, 20.0f, 30.0f, 40.0f, 50.0f, 60.0f, 70.0f, 80.0f, 90.0f, 100.0f};
         colorMapParams.setColorBarIntervals(cbi);
 
+        gridParams = new ColorMapParameters();
+        gridParams.setColorMapMax(100.0f);
+        gridParams.setColorMapMin(0.0f);
+        gridParams.setNoDataValue(0.0);
+
+        NotificationManagerJob.addObserver(ProbSevereRecord.NOTIFICATION_TOPIC, payloadObserver);
+        frameCache.addListener(evictionListener);
+
+        descriptorExtent = computeDescriptorExtent();
+        initialized = true;
+        loadJob.schedule();
+    }
+
+    /**
+     * @see com.raytheon.uf.viz.core.rsc.AbstractVizResource#project(org.opengis.referencing.crs.CoordinateReferenceSystem)
+     */
+    @Override
+    public void project(CoordinateReferenceSystem crs) throws VizException {
+        // Shapes and grid image meshes are built for the previous descriptor
+        disposeFrameShapes();
+        disposeGridImages();
+        Envelope extent = computeDescriptorExtent();
+        if (extent == null ? descriptorExtent == null : extent.equals(descriptorExtent)) {
+            return;
+        }
+        // Frames may only hold the tiles of the previous extent, the models are
+        // cached by extent so they are read again for the new one
+        descriptorExtent = extent;
+        synchronized (pendingFrames) {
+            pendingFrames.addAll(frames.keySet());
+        }
+        loadJob.schedule();
+    }
+
+    /**
+     * Computes the lon/lat extent of the descriptor from points along its
+     * edges
+     *
+     * @return extent, null if the descriptor can not be fully converted to
+     *         lon/lat
+     */
+    private Envelope computeDescriptorExtent() {
+        if (descriptor == null) {
+            return null;
+        }
+        double width = descriptor.getGridGeometry().getGridRange().getSpan(0);
+        double height = descriptor.getGridGeometry().getGridRange().getSpan(1);
+        return computeLonLatExtent(0, 0, width, height);
+    }
+
+    /**
+     * Computes the lon/lat extent of the view
+     *
+     * @param paintProps
+     * @param fraction of the view size to add on each side of the view
+     * @return extent, null if the view can not be fully converted to lon/lat
+     */
+    private Envelope computeViewExtent(PaintProperties paintProps, double margin) {
+        if (paintProps.getView() == null) {
+            return null;
+        }
+        IExtent view = paintProps.getView().getExtent();
+        double marginX = view.getWidth() * margin;
+        double marginY = view.getHeight() * margin;
+        return computeLonLatExtent(view.getMinX() - marginX, view.getMinY() - marginY,
+                view.getMaxX() + marginX, view.getMaxY() + marginY);
+    }
+
+    /**
+     * Computes the lon/lat extent of a pixel area from points along its edges
+     *
+     * @param min pixel x
+     * @param min pixel y
+     * @param max pixel x
+     * @param max pixel y
+     * @return extent, null if the area can not be fully converted to lon/lat
+     */
+    private Envelope computeLonLatExtent(double minX, double minY, double maxX, double maxY) {
+        Envelope extent = new Envelope();
+        for (int i = 0; i <= EXTENT_EDGE_POINTS; i++) {
+            double x = minX + (maxX - minX) * i / EXTENT_EDGE_POINTS;
+            double y = minY + (maxY - minY) * i / EXTENT_EDGE_POINTS;
+            double[][] pixels = { { x, minY }, { x, maxY }, { minX, y }, { maxX, y } };
+            for (double[] pixel : pixels) {
+                double[] lonLat = descriptor.pixelToWorld(pixel);
+                if (lonLat == null || Double.isNaN(lonLat[0]) || Double.isNaN(lonLat[1])) {
+                    return null;
+                }
+                extent.expandToInclude(lonLat[0], lonLat[1]);
+            }
+        }
+        return extent;
     }
 
     /**
@@ -168,67 +502,21 @@ AbstractVizResource<ProbSevereResourceData, MapDescriptor> {
      */
     @Override
     public String inspect(ReferencedCoordinate coord) throws VizException {
-        ProbSevereRecord frameRec = null;
-        synchronized (frames) {
-            frameRec = frames.get(this.displayedDataTime);
-        }
-        if (frameRec == null) {
+        ProbSevereFrameModel frame = getCachedFrame(this.displayedDataTime);
+        if (frame == null) {
             return "";
         }
-        StringBuilder sample = new StringBuilder();
         Coordinate latLon = new Coordinate();
         try {
             latLon = coord.asLatLon();
         } catch (Exception e1) {
             statusHandler.handle(Priority.ERROR, "Error converting ReferencedCoordinate to Lat/Lon", e1);
         }
-        GeometryFactory geom = new GeometryFactory();
-        Point point = geom.createPoint(latLon);
         // Check if we have an area we are rendering
-        String[] propsArr = frameRec.getProperties();
-        String[] propsArrKeys = frameRec.getPropertiesKeys();
-        String[] modelArr = null;
-        String[] modelArrKeys = null;
-        if (resourceData.getModelType().equals("probsevere")) {
-            modelArr = frameRec.getSevereModelProps();
-            modelArrKeys = frameRec.getSevereModelKeys();
-        } else if (resourceData.getModelType().equals("probtor")) {
-            modelArr = frameRec.getTorModelProps();
-            modelArrKeys = frameRec.getTorModelKeys();
-        } else if (resourceData.getModelType().equals("probhail")) {
-            modelArr = frameRec.getHailModelProps();
-            modelArrKeys = frameRec.getHailModelKeys();
-        } else if (resourceData.getModelType().equals("probwind")) {
-            modelArr = frameRec.getWindModelProps();
-            modelArrKeys = frameRec.getWindModelKeys();
-        }
         try {
-            Geometry[] pg = frameRec.getPolyGeoms();
-            for (int i=0; i < pg.length; i++) {
-                String[] props = propsArr[i].split("\\|");
-                String[] propsKeys = propsArrKeys[i].split("\\|");
-                String[] modelProps = modelArr[i].split("\\|");
-                String[] modelPropsKeys = modelArrKeys[i].split("\\|");
-                if (pg[i].contains(point)) {
-                    for (int j=0;j < modelPropsKeys.length; j++) {
-                        if (modelPropsKeys[j].substring(0,4).equalsIgnoreCase("line")) {
-                            if (sample.length() == 0) {
-                                sample.append(modelProps[j]);
-                            } else {
-                                sample.append("\n"+modelProps[j]);
-                            }
-                        }
-                    }
-                    if (resourceData.isShowObjectID()) {
-                        for (int n=0; n < propsKeys.length; n++) {
-                            if (propsKeys[n].equalsIgnoreCase("id")) {
-                                sample.append("\nObjectID: "+props[n]);
-                                break;
-                            }
-                        }
-                    }
-                    return sample.toString();
-                }
+            int i = frame.findShape(latLon);
+            if (i >= 0) {
+                return sampleShape(frame.getRecord(), i);
             }
         } catch (Exception e) {
             statusHandler.handle(Priority.ERROR, "Error interogating ProbSevere data", e);
@@ -237,27 +525,34 @@ AbstractVizResource<ProbSevereResourceData, MapDescriptor> {
     }
 
     /**
-     * Process all records for the displayedDataTime
+     * Builds the sample text of one shape, decoding only its strings
      *
-     * @param target
-     * @param paintProps
-     * @throws VizException
+     * @param ProbSevere record of the frame
+     * @param shape index
+     * @return sample text
      */
-    private void updateFrames(IGraphicsTarget target,
-            PaintProperties paintProps) throws VizException {
-        // Add any new records
-        ProbSevereRecord newRecord = null;
-        synchronized (unprocessedRecords) {
-            newRecord = unprocessedRecords.remove(this.displayedDataTime);
-        }
-        if (newRecord != null) {
-            // If record is incomplete, data is missing and it shouldn't be kept.
-            if (newRecord.isRecordComplete()) {
-                synchronized (frames) {
-                    frames.put(this.displayedDataTime, newRecord);
+    private String sampleShape(ProbSevereRecord frameRec, int i) {
+        StringBuilder sample = new StringBuilder();
+        String modelType = resourceData.getModelType();
+        String[] modelProps = frameRec.getModelProps(modelType)[i].split("\\|");
+        String[] modelPropsKeys = frameRec.getModelKeys(modelType)[i].split("\\|");
+        for (int j=0;j < modelPropsKeys.length && j < modelProps.length; j++) {
+            if (modelPropsKeys[j].regionMatches(true, 0, "line", 0, 4)) {
+                if (sample.length() == 0) {
+                    sample.append(modelProps[j]);
+                } else {
+                    sample.append("\n"+modelProps[j]);
                 }
             }
         }
+        if (resourceData.isShowObjectID()) {
+            String objectId = ProbSevereRecord.createPropsMap(frameRec.getPropertiesKeys()[i],
+                    frameRec.getProperties()[i]).get("ID");
+            if (objectId != null) {
+                sample.append("\nObjectID: "+objectId);
+            }
+        }
+        return sample.toString();
     }
 
     /**
@@ -267,205 +562,504 @@ AbstractVizResource<ProbSevereResourceData, MapDescriptor> {
     protected void paintInternal(IGraphicsTarget target,
             PaintProperties paintProps) throws VizException {
 
-        this.displayedDataTime = paintProps.getDataTime();
+        DataTime time = paintProps.getDataTime();
+        this.displayedDataTime = time;
+        refreshQueued.set(false);
 
-        // First check to see if we need to process new data
-        ProbSevereRecord unprocessed = null;
-        synchronized (unprocessedRecords) {
-            unprocessed = unprocessedRecords.get(this.displayedDataTime);
-        }
-        if (unprocessed != null) {
-            updateFrames(target, paintProps);
+        // Release what was built from models dropped by the frame model cache
+        DataTime evicted;
+        while ((evicted = evictedFrames.poll()) != null) {
+            removeFrameShapes(evicted);
+            removeGridImage(evicted);
         }
 
-        // Hopefully we now have some data to display, if not bail
-        ProbSevereRecord frameRec = null;
-        synchronized (frames) {
-            frameRec = frames.get(this.displayedDataTime);
+        // Frames are read and prepared in the background, ahead of the
+        // displayed frame in the animation direction, and a frame that is not
+        // ready yet is drawn once it is
+        boolean grid = isGridZoom(paintProps);
+        Envelope view = computeViewExtent(paintProps, 0);
+        int level = 0;
+        if (view != null && paintProps.getCanvasBounds() != null && paintProps.getCanvasBounds().width > 0) {
+            level = ProbSevereLod.selectLevel(view.getWidth() / paintProps.getCanvasBounds().width);
+        }
+        gridZoom = grid;
+        lodLevel = level;
+        shapeView = view;
+        Envelope area = shapeArea;
+        if (view == null) {
+            shapeArea = null;
+        } else if (area == null || !area.contains(view)) {
+            shapeArea = computeViewExtent(paintProps, CULL_MARGIN);
         }
-        if (frameRec == null) {
+        Envelope readExtent = getReadExtent(shapeArea);
+        if (readExtent != null && !readExtent.equals(lastReadExtent)) {
+            // Frames hold only the tiles they were read for, the models are
+            // cached by extent so they are read again for the new tiles
+            synchronized (pendingFrames) {
+                pendingFrames.addAll(frames.keySet());
+            }
+            lastReadExtent = readExtent;
+            loadJob.schedule();
+        }
+
+        // Until the frame is read for the tiles around this view, the shapes
+        // or grid already built for it are drawn
+        ProbSevereFrameModel frame = getCachedFrame(time);
+        requestFrames(time, frame == null);
+        if (frame == null) {
             this.displayedDataTime = null;
+        }
+        if (grid && paintGrid(target, paintProps, time)) {
             return;
-        } else {
-            Geometry[] polyGeoms = frameRec.getPolyGeoms();
-            String[] modelArr = null;
-            String[] modelArrKeys = null;
-            int[] probabilities = new int[polyGeoms.length];
-            String[] torArr = null;
-            String[] torArrKeys = null;
-            int[] torProbs = new int[polyGeoms.length];
-            if (resourceData.getModelType().equalsIgnoreCase("probsevere")) {
-                modelArr = frameRec.getSevereModelProps();
-                modelArrKeys = frameRec.getSevereModelKeys();
-                torArr = frameRec.getTorModelProps();
-                torArrKeys = frameRec.getTorModelKeys();
-            } else if (resourceData.getModelType().equalsIgnoreCase("probtor")) {
-                modelArr = frameRec.getTorModelProps();
-                modelArrKeys = frameRec.getTorModelKeys();
-            } else if (resourceData.getModelType().equalsIgnoreCase("probhail")) {
-                modelArr = frameRec.getHailModelProps();
-                modelArrKeys = frameRec.getHailModelKeys();
-            } else if (resourceData.getModelType().equalsIgnoreCase("probwind")) {
-                modelArr = frameRec.getWindModelProps();
-                modelArrKeys = frameRec.getWindModelKeys();
+        }
+
+        // Shapes are culled to the area around the view and only rebuilt once
+        // the view leaves that area or the map scale calls for another level
+        // of detail. Their lines are prepared in the background and only
+        // compiled here, the previous shapes being drawn until they are ready.
+        ProbSevereFrameShapes shapes = takeFrameShapes(target, time, view, level);
+        if (shapes == null || !shapes.isValid(resourceData, view, level)) {
+            requestFrames(time, true);
+        }
+        if (shapes == null || !shapes.isDrawable(resourceData)) {
+            return;
+        }
+        colorTable.update(getCapability(ColorMapCapability.class).getColorMapParameters());
+        shapes.paint(target, paintProps, colorTable);
+    }
+
+    /**
+     * Retrieves the compiled shapes of a frame, first compiling the shapes
+     * prepared for it in the background if they suit the view or there is
+     * nothing else to draw
+     *
+     * @param target
+     * @param data time of the frame
+     * @param lon/lat view, null if it could not be converted
+     * @param level of detail of the view
+     * @return compiled shapes, null if none are ready
+     */
+    private ProbSevereFrameShapes takeFrameShapes(IGraphicsTarget target, DataTime time, Envelope view, int level) {
+        ProbSevereFrameShapes shapes;
+        ProbSevereFrameShapes prepared;
+        synchronized (frameShapes) {
+            shapes = frameShapes.get(time);
+            prepared = preparedShapes.remove(time);
+        }
+        if (prepared == null || !(prepared.isValid(resourceData, view, level)
+                || (prepared.isDrawable(resourceData) && (shapes == null || !shapes.isDrawable(resourceData))))) {
+            return shapes;
+        }
+        prepared.compile(target, descriptor);
+        synchronized (frameShapes) {
+            shapes = frameShapes.put(time, prepared);
+        }
+        if (shapes != null) {
+            shapes.dispose();
+        }
+        return prepared;
+    }
+
+    /**
+     * Requests the displayed frame and the frames after it in the animation
+     * direction be prepared before the pending frames. Requests for frames
+     * no longer ahead of the displayed frame are dropped, and work for them
+     * is stopped if the display jumped to another frame.
+     *
+     * @param data time of the displayed frame
+     * @param true to request the frames again even if the displayed frame
+     *        has not changed
+     */
+    private void requestFrames(DataTime time, boolean force) {
+        if (!initialized || time == null) {
+            return;
+        }
+        DataTime last = lastRequested.isEmpty() ? null : lastRequested.get(0);
+        if (time.equals(last) && !force) {
+            return;
+        }
+        if (last != null && !time.equals(last)) {
+            forward = isForward(last, time);
+        }
+        List<DataTime> requested = new ArrayList<DataTime>();
+        requested.add(time);
+        DataTime next = time;
+        for (int k = 0; k < PREFETCH_FRAMES; k++) {
+            next = forward ? frames.higherKey(next) : frames.lowerKey(next);
+            if (next == null) {
+                // Animation loops around to the other end
+                Map.Entry<DataTime, String> end = forward ? frames.firstEntry() : frames.lastEntry();
+                next = end == null ? null : end.getKey();
             }
-            for (int n=0; n < polyGeoms.length; n++) {
-                String[] modelProps = modelArr[n].split("\\|");
-                String[] modelPropsKeys = modelArrKeys[n].split("\\|");
-                for (int p=0; p < modelPropsKeys.length; p++) {
-                    if (modelPropsKeys[p].equalsIgnoreCase("prob")) {
-                        probabilities[n] = Integer.parseInt(modelProps[p]);
-                        break;
-                    }
-                }
-                if (resourceData.getModelType().equalsIgnoreCase("probsevere")) {
-                    String[] torProps = torArr[n].split("\\|");
-                    String[] torPropsKeys = torArrKeys[n].split("\\|");
-                    for (int p=0; p < torPropsKeys.length; p++) {
-                        if (torPropsKeys[p].equalsIgnoreCase("prob")) {
-                            torProbs[n] = Integer.parseInt(torProps[p]);
-                            break;
-                        }
-                    }
-                }
+            if (next == null || requested.contains(next)) {
+                break;
             }
-            float thickline = 7.0f;
-            float thinline = 4.0f;
-            float bufferval = 0.05f;
-            if (resourceData.getModelType().equalsIgnoreCase("probsevere")) {
-                if (resourceData.getBaseShape().equalsIgnoreCase("tor")) {
-                    for (int j=resourceData.getTorShapeThresh(); j < 101; j++) {
-                        IWireframeShape iwfsTor = target.createWireframeShape(false, descriptor);
-                        boolean drawShape = false;
-                        for (int i=0; i < polyGeoms.length; i++) {
-                            if (torProbs[i] == j) {
-                                iwfsTor.addLineSegment(polyGeoms[i].getCoordinates());
-                                drawShape = true;
-                            }
-                        }
-                        if (drawShape) {
-                            float lineval = thickline;
-                            renderShapes(target, paintProps, iwfsTor, j, lineval);
-                        }
-                    }
-                    for (int j=0; j < 101; j++) {
-                        IWireframeShape iwfsSevere = target.createWireframeShape(false, descriptor);
-                        boolean drawShape = false;
-                        for (int i=0; i < polyGeoms.length; i++) {
-                            if (probabilities[i] == j) {
-                                iwfsSevere.addLineSegment(polyGeoms[i].buffer(bufferval,4).getCoordinates());
-                                drawShape = true;
-                            }
-                        }
-                        if (drawShape) {
-                            float lineval = thickline;
-                            if (j < resourceData.getProbThresh()) {
-                                lineval = thinline;
-                            }
-                            renderShapes(target, paintProps, iwfsSevere, j, lineval);
-                        }
-                    }
-                } else {
-                    for (int j=0; j < 101; j++) {
-                        IWireframeShape iwfsSevere = target.createWireframeShape(false, descriptor);
-                        boolean drawShape = false;
-                        for (int i=0; i < polyGeoms.length; i++) {
-                            if (probabilities[i] == j) {
-                                iwfsSevere.addLineSegment(polyGeoms[i].getCoordinates());
-                                drawShape = true;
-                            }
-                        }
-                        if (drawShape) {
-                            float lineval = thickline;
-                            if (j < resourceData.getProbThresh()) {
-                                lineval = thinline;
-                            }
-                            renderShapes(target, paintProps, iwfsSevere, j, lineval);
-                        }
-                    }
-                    for (int j=resourceData.getTorShapeThresh(); j < 101; j++) {
-                        IWireframeShape iwfsTor = target.createWireframeShape(false, descriptor);
-                        boolean drawShape = false;
-                        for (int i=0; i < polyGeoms.length; i++) {
-                            if (torProbs[i] == j) {
-                                iwfsTor.addLineSegment(polyGeoms[i].buffer(bufferval,4).getCoordinates());
-                                drawShape = true;
-                            }
-                        }
-                        if (drawShape) {
-                            float lineval = thickline;
-                            renderShapes(target, paintProps, iwfsTor, j, lineval);
-                        }
+            requested.add(next);
+        }
+        boolean jumped = last != null && !lastRequested.contains(time);
+        synchronized (pendingFrames) {
+            requestedFrames = new ArrayList<DataTime>(requested);
+        }
+        lastRequested = requested;
+        if (jumped) {
+            loadJob.cancel();
+        }
+        loadJob.schedule();
+    }
+
+    /**
+     * Determines the animation direction from one displayed frame to the
+     * next, treating a step between the ends of the loop as continuing
+     *
+     * @param previously displayed frame
+     * @param displayed frame
+     * @return true if the frames are stepping forward in time
+     */
+    private boolean isForward(DataTime from, DataTime to) {
+        Map.Entry<DataTime, String> first = frames.firstEntry();
+        Map.Entry<DataTime, String> last = frames.lastEntry();
+        if (first != null && last != null) {
+            if (from.equals(last.getKey()) && to.equals(first.getKey())) {
+                return true;
+            } else if (from.equals(first.getKey()) && to.equals(last.getKey())) {
+                return false;
+            }
+        }
+        return to.compareTo(from) > 0;
+    }
+
+    /**
+     * Reads a registered frame into the frame model cache unless it is
+     * already cached. Requested frames are also prepared for the level of
+     * detail and grid display of the last paint. A refresh is requested if
+     * the displayed frame became ready.
+     *
+     * @param data time of the frame
+     * @param true to prepare the frame for display
+     */
+    private void loadFrame(DataTime time, boolean prepare) {
+        String dataURI = frames.get(time);
+        if (dataURI == null) {
+            return;
+        }
+        // Shapes are prepared for the same area the frame is read for
+        Envelope area = shapeArea;
+        Envelope extent = getReadExtent(area);
+        String key = ProbSevereFrameModelCache.createKey(dataURI, extent);
+        ProbSevereFrameModel frame = null;
+        boolean changed = false;
+        if (!frameCache.contains(key)) {
+            ProbSevereRecord rec = retrieveRecord(new ProbSevereRecord(dataURI), extent);
+            // If record is incomplete, data is missing and it shouldn't be kept.
+            if (rec == null || !rec.isRecordComplete()) {
+                return;
+            }
+            frame = new ProbSevereFrameModel(rec);
+            frameCache.put(key, frame);
+            changed = true;
+        }
+        if (prepare) {
+            if (frame == null) {
+                frame = frameCache.get(key);
+            }
+            if (frame != null) {
+                changed |= prepareFrame(time, dataURI, frame, area);
+            }
+        }
+        DataTime displayed = this.displayedDataTime;
+        if (changed && (displayed == null || displayed.equals(time))) {
+            requestRefresh();
+        }
+    }
+
+    /**
+     * Reads and builds what a frame needs for the view, level of detail and
+     * grid display of the last paint, and for sampling, so painting and
+     * sampling it only compile, draw and query
+     *
+     * @param data time of the frame
+     * @param data URI the frame was read from
+     * @param render model of the frame
+     * @param lon/lat area around the view the frame was read for
+     * @return true if anything was read or prepared
+     */
+    private boolean prepareFrame(DataTime time, String dataURI, ProbSevereFrameModel frame, Envelope area) {
+        // Sampling only queries the index built here
+        boolean read = frame.prepareSampling();
+        boolean shapesNeeded = true;
+        if (gridZoom) {
+            boolean loaded;
+            synchronized (gridImages) {
+                loaded = gridImages.containsKey(time);
+            }
+            if (!loaded) {
+                ProbSevereGridImage image = ProbSevereGridImage.load(frame.getRecord(), resourceData.getModelType());
+                synchronized (gridImages) {
+                    if (!gridImages.containsKey(time)) {
+                        gridImages.put(time, image);
+                        image = null;
                     }
                 }
-            } else {
-                for (int j=0; j < 101; j++) {
-                    IWireframeShape iwfs = target.createWireframeShape(false, descriptor);
-                    boolean drawShape = false;
-                    for (int i=0; i < polyGeoms.length; i++) {
-                        if (probabilities[i] == j) {
-                            iwfs.addLineSegment(polyGeoms[i].getCoordinates());
-                            drawShape = true;
-                        }
-                    }
-                    if (drawShape) {
-                        float lineval = thickline;
-                        if (j < resourceData.getProbThresh()) {
-                            lineval = thinline;
-                        }
-                        renderShapes(target, paintProps, iwfs, j, lineval);
-                    }
+                if (image != null) {
+                    image.dispose();
                 }
+                read = true;
+            }
+            synchronized (gridImages) {
+                shapesNeeded = gridImages.get(time) == null;
             }
         }
+        if (shapesNeeded) {
+            read |= prepareFrameShapes(time, dataURI, frame, area);
+        }
+        return read;
     }
 
-    public void renderShapes(IGraphicsTarget target, PaintProperties paintProps, IWireframeShape iwfs, int prob, float thick) {
+    /**
+     * Prepares the lines of the shapes of a frame for the view and level of
+     * detail of the last paint, reading the level and buffering the outlines
+     * here rather than on the paint thread
+     *
+     * @param data time of the frame
+     * @param data URI the frame was read from
+     * @param render model of the frame
+     * @param lon/lat area around the view the frame was read for
+     * @return true if shapes were prepared
+     */
+    private boolean prepareFrameShapes(DataTime time, String dataURI, ProbSevereFrameModel frame,
+            Envelope area) {
+        int level = lodLevel;
+        Envelope view = shapeView;
+        synchronized (frameShapes) {
+            ProbSevereFrameShapes shapes = preparedShapes.get(time);
+            if (shapes == null) {
+                shapes = frameShapes.get(time);
+            }
+            if (shapes != null && shapes.isValid(resourceData, view, level)) {
+                return false;
+            }
+        }
+        ProbSevereFrameShapes shapes = new ProbSevereFrameShapes(resourceData, frame, area, level);
+        synchronized (frameShapes) {
+            // The frame may have been replaced while its shapes were prepared
+            if (!dataURI.equals(frames.get(time))) {
+                return false;
+            }
+            preparedShapes.put(time, shapes);
+        }
+        return true;
+    }
 
-        Color color;
-        RGB shapeColor = new RGB(255, 255, 255);
-        float alpha;
+    /**
+     * Issues a refresh unless one is already waiting for the next paint, so
+     * bursts of updates cause a single repaint
+     */
+    private void requestRefresh() {
+        if (refreshQueued.compareAndSet(false, true)) {
+            issueRefresh();
+        }
+    }
 
-        // Create colormap parameters
-        ColorMapParameters colorMapParams = getCapability(
-                ColorMapCapability.class).getColorMapParameters();
+    /**
+     * Retrieves the render model of a registered frame only if it is cached
+     *
+     * @param data time of the frame
+     * @return render model, null if it is not registered or not cached
+     */
+    private ProbSevereFrameModel getCachedFrame(DataTime time) {
+        String dataURI = time == null ? null : frames.get(time);
+        if (dataURI == null) {
+            return null;
+        }
+        return frameCache.get(ProbSevereFrameModelCache.createKey(dataURI, getReadExtent(shapeArea)));
+    }
 
-        color = colorMapParams.getColorByValue((float) prob);
-        shapeColor.red = (int) (color.getRed() * 255);
-        shapeColor.green = (int) (color.getGreen() * 255);
-        shapeColor.blue = (int) (color.getBlue() * 255);
-        alpha = color.getAlpha() * paintProps.getAlpha();
+    /**
+     * Computes the lon/lat extent frames are read for, the tiles covering the
+     * area around the view so panning within it reads nothing new
+     *
+     * @param lon/lat area around the view, null if there is none
+     * @return extent aligned to tiles, the descriptor extent if the view has
+     *         not been painted or can not be converted to lon/lat
+     */
+    private Envelope getReadExtent(Envelope area) {
+        Envelope extent = descriptorExtent;
+        if (area == null) {
+            return extent;
+        }
+        if (extent != null) {
+            area = area.intersection(extent);
+            if (area.isNull()) {
+                return extent;
+            }
+        }
+        return ProbSevereTiling.alignExtent(area);
+    }
 
-        try {
-            target.drawWireframeShape(iwfs, shapeColor, thick, LineStyle.SOLID, alpha);
-        } catch (VizException e) {
-            statusHandler.handle(Priority.ERROR, "Error drawing given wireframe shape", e);
+    /**
+     * Determines whether the view is wide enough to draw the max-probability
+     * grid instead of shapes
+     *
+     * @param paintProps
+     * @return true if the grid should be drawn
+     */
+    private boolean isGridZoom(PaintProperties paintProps) {
+        double gridSpan = resourceData.getGridSpan();
+        if (gridSpan <= 0 || paintProps.getView() == null) {
+            return false;
+        }
+        IExtent extent = paintProps.getView().getExtent();
+        double y = extent.getCenter()[1];
+        double[] west = descriptor.pixelToWorld(new double[] { extent.getMinX(), y });
+        double[] east = descriptor.pixelToWorld(new double[] { extent.getMaxX(), y });
+        if (west == null || east == null || Double.isNaN(west[0]) || Double.isNaN(east[0])) {
+            // The view reaches beyond the edge of the world
+            return true;
         }
-        iwfs.dispose();
+        return Math.abs(east[0] - west[0]) > gridSpan;
+    }
 
+    /**
+     * Draws the max-probability grid of a frame
+     *
+     * @param target
+     * @param paintProps
+     * @param data time of the frame
+     * @return false if the frame has no grid and shapes should be drawn
+     * @throws VizException
+     */
+    private boolean paintGrid(IGraphicsTarget target, PaintProperties paintProps,
+            DataTime time) throws VizException {
+        ProbSevereGridImage image;
+        boolean loaded;
+        synchronized (gridImages) {
+            loaded = gridImages.containsKey(time);
+            image = gridImages.get(time);
+        }
+        if (!loaded) {
+            // The grid is read in the background and drawn once it is ready
+            requestFrames(time, true);
+            return true;
+        }
+        if (image == null) {
+            return false;
+        }
+        ColorMapParameters colorMapParams = getCapability(ColorMapCapability.class).getColorMapParameters();
+        gridParams.setColorMap(colorMapParams.getColorMap());
+        image.paint(target, paintProps, descriptor, gridParams);
+        return true;
     }
 
+    /**
+     * Disposes the grid image of a frame
+     *
+     * @param data time of the frame
+     */
+    private void removeGridImage(DataTime time) {
+        ProbSevereGridImage image;
+        synchronized (gridImages) {
+            image = gridImages.remove(time);
+        }
+        if (image != null) {
+            image.dispose();
+        }
+    }
 
     /**
-     * Adds a new record to this resource
+     * Registers a new record with this resource as a frame. Only the record
+     * metadata is used here, the data is read in the background.
      *
      * @param new ProbSevere record
      */
     protected void addRecord(ProbSevereRecord newRec) {
-        if (newRec != null) {
-            DataTime dataTime = newRec.getDataTime();
-            if (dataTime != null) {
-                File f = HDF5Util.findHDF5Location(newRec);
-                IDataStore ds = DataStoreFactory.getDataStore(f);
-                try {
-                    newRec.retrieveFromDataStore(ds);
-                    synchronized (unprocessedRecords) {
-                        unprocessedRecords.put(dataTime, newRec);
-                    }
-                } catch (Exception e) {
-                    statusHandler.handle(Priority.ERROR, "Error retrieving new data from ProbSevere data store.", e);
+        if (newRec == null || newRec.getDataTime() == null) {
+            return;
+        }
+        DataTime dataTime = newRec.getDataTime();
+        String previous = frames.put(dataTime, newRec.getDataURI());
+        if (previous != null && !previous.equals(newRec.getDataURI())) {
+            removeFrameShapes(dataTime);
+            removeGridImage(dataTime);
+        }
+        synchronized (pendingFrames) {
+            pendingFrames.add(dataTime);
+        }
+        if (initialized) {
+            loadJob.schedule();
+        }
+    }
+
+    /**
+     * Retrieves the data of a record from the notification payload, the EDEX
+     * frame cache or the data store, in that order
+     *
+     * @param ProbSevere record to retrieve
+     * @param lon/lat extent to retrieve stored tiles for, null for every tile
+     * @return record with data, null if it could not be retrieved
+     */
+    private ProbSevereRecord retrieveRecord(ProbSevereRecord newRec, Envelope extent) {
+        ProbSevereRecord notifiedRec = null;
+        synchronized (notifiedRecords) {
+            notifiedRec = notifiedRecords.remove(newRec.getDataURI());
+        }
+        if (notifiedRec != null && notifiedRec.unpackFeatureBlock()) {
+            return notifiedRec;
+        }
+        ProbSevereRecord cachedRec = requestRecord(newRec, extent);
+        if (cachedRec != null) {
+            return cachedRec;
+        }
+        File f = HDF5Util.findHDF5Location(newRec);
+        IDataStore ds = DataStoreFactory.getDataStore(f);
+        try {
+            newRec.retrieveFromDataStore(ds, extent);
+            return newRec;
+        } catch (Exception e) {
+            statusHandler.handle(Priority.ERROR, "Error retrieving new data from ProbSevere data store.", e);
+            return null;
+        }
+    }
+
+    /**
+     * Requests the record from the EDEX frame cache, limited to the stored
+     * tiles that intersect an extent
+     *
+     * @param ProbSevere record to request
+     * @param lon/lat extent, null for every tile
+     * @return complete record, null if it could not be retrieved
+     */
+    private ProbSevereRecord requestRecord(ProbSevereRecord rec, Envelope extent) {
+        try {
+            ProbSevereRecordRequest request = new ProbSevereRecordRequest(rec.getDataURI());
+            request.setExtent(extent);
+            Object response = ThriftClient.sendRequest(request);
+            if (response instanceof ProbSevereRecord) {
+                ProbSevereRecord cachedRec = (ProbSevereRecord) response;
+                if (cachedRec.unpackFeatureBlock()) {
+                    return cachedRec;
                 }
             }
+        } catch (VizException e) {
+            statusHandler.handle(Priority.DEBUG, "ProbSevere frame cache request failed, reading data store.", e);
+        }
+        return null;
+    }
+
+    /**
+     * Holds a record received with a feature block payload until the data
+     * update for it arrives, so the data store does not need to be read. The
+     * feature block is unpacked when the frame is read in the background.
+     *
+     * @param ProbSevere record with feature block
+     */
+    protected void addNotifiedRecord(ProbSevereRecord notifiedRec) {
+        // The payload is shared with other resources, one of which may have
+        // unpacked it already
+        if (notifiedRec.getDataTime() != null
+                && (notifiedRec.getFeatureBlock() != null || notifiedRec.getDataArrays() != null)) {
+            synchronized (notifiedRecords) {
+                notifiedRecords.put(notifiedRec.getDataURI(), notifiedRec);
+            }
         }
     }
 
@@ -484,7 +1078,13 @@ AbstractVizResource<ProbSevereResourceData, MapDescriptor> {
         } else {
             name += "Severe";
         }
-        name += " Model (%)";
+        name += " Model";
+        RequestConstraint source = resourceData.getMetadataMap().get("source");
+        if (source != null && source.getConstraintValue() != null
+                && source.getConstraintValue().endsWith(ProbSevereRecord.SWATH_SOURCE_SUFFIX)) {
+            name += " Swath";
+        }
+        name += " (%)";
 
         return name;
     }
@@ -495,12 +1095,12 @@ AbstractVizResource<ProbSevereResourceData, MapDescriptor> {
     @Override
     public void remove(DataTime time) {
         super.remove(time);
-        synchronized (frames) {
-            frames.remove(time);
-        }
-        synchronized (unprocessedRecords) {
-            unprocessedRecords.remove(time);
+        frames.remove(time);
+        synchronized (pendingFrames) {
+            pendingFrames.remove(time);
         }
+        removeFrameShapes(time);
+        removeGridImage(time);
     }
 
 }
@@ -28,6 +28,8 @@ import edu.wisc.ssec.cimss.common.dataplugin.probsevere.ProbSevereRecord;
  *                                      package name and methods to use ProbSevere 
  *                                      instead of ConvectProb to better reflect the 
  *                                      product origin.
+ * Oct 19, 2026             cimss       Added the zoomed-out span for drawing
+ *                                      the max-probability grid.
  *
  * </pre
  *
@@ -61,6 +63,10 @@ public class ProbSevereResourceData extends AbstractRequestableResourceData {
     @XmlAttribute
     private boolean showObjectID = false;
 
+    // Sets the width in degrees of longitude above which the stored grid is drawn instead of shapes
+    @XmlAttribute
+    private double gridSpan = 20.0;
+
     /**
      * @see com.raytheon.uf.viz.core.rsc.AbstractRequestableResourceData#equals(java.lang.Object)
      */
@@ -188,4 +194,22 @@ public class ProbSevereResourceData extends AbstractRequestableResourceData {
         this.showObjectID = showObjectID;
     }
 
-}
\ No newline at end of file
+    /**
+     * Width of the view above which the max-probability grid is drawn
+     *
+     * @return degrees of longitude, zero or less to always draw shapes
+     */
+    public double getGridSpan() {
+        return gridSpan;
+    }
+
+    /**
+     * Set width of the view above which the max-probability grid is drawn
+     *
+     * @param degrees of longitude, zero or less to always draw shapes
+     */
+    public void setGridSpan(double gridSpan) {
+        this.gridSpan = gridSpan;
+    }
+
+}